@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.bean.factory;
+
+
+import com.coherentsolutions.yaf.core.bean.YafBean;
+import com.coherentsolutions.yaf.core.bean.field.YafFieldPostProcessor;
+import com.coherentsolutions.yaf.core.bean.field.YafFieldProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable per bean class injection plan of {@link YafBeanProcessor}: yaf fields with their accessors and processors
+ * that could process them. Class level processors ({@link YafFieldProcessor#isClassLevel()}) that do not match the
+ * field are dropped, the first matching one ends the candidates list, other processors are checked on each injection.
+ */
+@Slf4j
+public class InjectionPlan {
+
+    /**
+     * The Steps.
+     */
+    final FieldStep[] steps;
+
+    /**
+     * Instantiates a new Injection plan.
+     *
+     * @param beanType            the bean type
+     * @param fields              the yaf fields of the bean
+     * @param fieldProcessors     the field processors
+     * @param fieldPostProcessors the field post processors
+     * @param lazy                inject yaf beans lazily by default
+     */
+    InjectionPlan(Class beanType, List<Field> fields, List<YafFieldProcessor> fieldProcessors,
+                  List<YafFieldPostProcessor> fieldPostProcessors, boolean lazy) {
+        steps = new FieldStep[fields.size()];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = new FieldStep(beanType, fields.get(i), fieldProcessors, fieldPostProcessors, lazy);
+        }
+    }
+
+    /**
+     * Field injection step.
+     */
+    static class FieldStep {
+
+        final Field field;
+        final Class fieldType;
+        final VarHandle handle;
+        final YafFieldProcessor[] processors;
+        // processor with the same index matches for sure
+        final boolean[] processorMatched;
+        final YafFieldPostProcessor[] postProcessors;
+        final boolean[] postProcessorMatched;
+        // field is injected as lazy proxy
+        final boolean lazy;
+
+        FieldStep(Class beanType, Field field, List<YafFieldProcessor> fieldProcessors,
+                  List<YafFieldPostProcessor> fieldPostProcessors, boolean lazyByDefault) {
+            this.field = field;
+            this.fieldType = field.getType();
+            this.handle = buildHandle(field);
+
+            List<YafFieldProcessor> candidates = new ArrayList<>();
+            List<Boolean> matched = new ArrayList<>();
+            if (fieldProcessors != null) {
+                for (YafFieldProcessor p : fieldProcessors) {
+                    if (!p.isClassLevel()) {
+                        candidates.add(p);
+                        matched.add(false);
+                    } else if (p.canProcess(field, fieldType, null, beanType, null, null)) {
+                        candidates.add(p);
+                        matched.add(true);
+                        break;
+                    }
+                }
+            }
+            processors = candidates.toArray(new YafFieldProcessor[0]);
+            processorMatched = toArray(matched);
+
+            List<YafFieldPostProcessor> postCandidates = new ArrayList<>();
+            matched.clear();
+            if (fieldPostProcessors != null) {
+                for (YafFieldPostProcessor p : fieldPostProcessors) {
+                    if (!p.isClassLevel()) {
+                        postCandidates.add(p);
+                        matched.add(false);
+                    } else if (p.canPostProcess(field, fieldType, null, null, beanType, null, null)) {
+                        postCandidates.add(p);
+                        matched.add(true);
+                        break;
+                    }
+                }
+            }
+            postProcessors = postCandidates.toArray(new YafFieldPostProcessor[0]);
+            postProcessorMatched = toArray(matched);
+            lazy = isLazy(lazyByDefault);
+        }
+
+        /**
+         * Only yaf beans built by context processor without post processing (it could change the instance) could be
+         * lazy, field level {@link Lazy} overrides the default.
+         */
+        private boolean isLazy(boolean lazyByDefault) {
+            Lazy lazyAnnotation = field.getAnnotation(Lazy.class);
+            boolean lazy = lazyAnnotation != null ? lazyAnnotation.value() : lazyByDefault;
+            return lazy && YafBean.class.isAssignableFrom(fieldType) && LazyYafBeanTargetSource.isProxyable(fieldType)
+                    && processors.length == 1 && processorMatched[0]
+                    && processors[0] instanceof YafContextFieldPostProcessor && postProcessors.length == 0;
+        }
+
+        Object get(Object bean) throws IllegalAccessException {
+            return handle != null ? handle.get(bean) : field.get(bean);
+        }
+
+        void set(Object bean, Object value) {
+            try {
+                if (handle != null) {
+                    handle.set(bean, value);
+                } else {
+                    field.set(bean, value);
+                }
+            } catch (Exception e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        private static VarHandle buildHandle(Field field) {
+            if (Modifier.isFinal(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) {
+                // var handles of final fields are read only, static ones have no receiver
+                return null;
+            }
+            try {
+                return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                        .unreflectVarHandle(field);
+            } catch (IllegalAccessException | RuntimeException e) {
+                log.debug("Unable to build var handle for {}, reflection is used: {}", field, e.getMessage());
+                return null;
+            }
+        }
+
+        private static boolean[] toArray(List<Boolean> list) {
+            boolean[] array = new boolean[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
+        }
+    }
+}
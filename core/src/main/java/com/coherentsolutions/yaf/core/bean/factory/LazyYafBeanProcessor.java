@@ -28,31 +28,51 @@ package com.coherentsolutions.yaf.core.bean.factory;
 import com.coherentsolutions.yaf.core.bean.YafBean;
 import com.coherentsolutions.yaf.core.bean.YafPrototype;
 import com.coherentsolutions.yaf.core.consts.Consts;
+import com.coherentsolutions.yaf.core.context.scope.TestScope;
 import com.coherentsolutions.yaf.core.utils.YafReflectionUtils;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScannedGenericBeanDefinition;
-import org.springframework.context.support.SimpleThreadScope;
 import org.springframework.stereotype.Component;
 
 /**
  * This processor intercept bean processing, and if bean is page or utils - marks it lazy.
+ * <p>
+ * During AOT processing it runs at build time and its changes are written to generated bean definitions, the processor
+ * itself is excluded from generated context.
  */
 @Component
-public class LazyYafBeanProcessor implements BeanFactoryPostProcessor {
+public class LazyYafBeanProcessor implements BeanFactoryPostProcessor, BeanFactoryInitializationAotProcessor {
 
     @Override
     public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
-        // register threadLocal scope
-        beanFactory.registerScope(Consts.SCOPE_THREADLOCAL, new SimpleThreadScope());
+        // register test scope, if it is not registered statically by YafConfig
+        if (beanFactory.getRegisteredScope(Consts.SCOPE_THREADLOCAL) == null) {
+            beanFactory.registerScope(Consts.SCOPE_THREADLOCAL, new TestScope());
+        }
+        YafComponentIndex index = YafComponentIndex.load(beanFactory.getBeanClassLoader() != null
+                ? beanFactory.getBeanClassLoader() : getClass().getClassLoader());
+        beanFactory.registerSingleton(YafComponentIndex.class.getSimpleName(), index);
         for (String name : beanFactory.getBeanDefinitionNames()) {
             BeanDefinition beanDefinition = beanFactory.getBeanDefinition(name);
             try {
                 // todo validate this, may be not all beans appears in this alg
-                if (beanDefinition instanceof ScannedGenericBeanDefinition) {
+                YafComponentIndex.Entry entry = beanDefinition instanceof ScannedGenericBeanDefinition
+                        ? index.get(beanDefinition.getBeanClassName()) : null;
+                if (entry != null) {
+                    // precomputed at build time, no need to load class
+                    if (entry.isLazy()) {
+                        beanDefinition.setLazyInit(true);
+                    }
+                    if (entry.getScope() != null) {
+                        beanDefinition.setScope(entry.getScope());
+                    }
+                } else if (beanDefinition instanceof ScannedGenericBeanDefinition) {
                     String className = beanDefinition.getBeanClassName();
                     Class cls = Class.forName(className);
                     if (YafReflectionUtils.isChild(cls, YafBean.class)) {
@@ -75,4 +95,10 @@ public class LazyYafBeanProcessor implements BeanFactoryPostProcessor {
             }
         }
     }
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        // nothing to contribute, bean definitions are already processed
+        return null;
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.bean.factory;
+
+
+import com.coherentsolutions.yaf.core.bean.field.YafFieldProcessor;
+import com.coherentsolutions.yaf.core.context.test.TestExecutionContext;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.AbstractLazyCreationTargetSource;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Target source of lazy yaf bean field, the bean is built (resolved, processed and configured) by field processor on
+ * the first call of the proxy method.
+ * <p>
+ * The proxy is a CGLIB subclass of the field type: its own fields are never set (direct field access reads defaults),
+ * final methods are not intercepted and {@code instanceof} checks against the concrete bean class chosen by conditions
+ * fail, so only types that could be safely proxied (see {@link #isProxyable(Class)}) are made lazy.
+ */
+public class LazyYafBeanTargetSource extends AbstractLazyCreationTargetSource {
+
+    private final YafFieldProcessor processor;
+    private final Field field;
+    private final Class fieldType;
+    private final Object obj;
+    private final Class objType;
+    private final List<Annotation> annotations;
+    private final TestExecutionContext testExecutionContext;
+
+    /**
+     * Instantiates a new Lazy yaf bean target source.
+     *
+     * @param processor            the processor
+     * @param field                the field
+     * @param fieldType            the field type
+     * @param obj                  the obj
+     * @param objType              the obj type
+     * @param annotations          the annotations
+     * @param testExecutionContext the test execution context
+     */
+    public LazyYafBeanTargetSource(YafFieldProcessor processor, Field field, Class fieldType, Object obj,
+                                   Class objType, List<Annotation> annotations,
+                                   TestExecutionContext testExecutionContext) {
+        this.processor = processor;
+        this.field = field;
+        this.fieldType = fieldType;
+        this.obj = obj;
+        this.objType = objType;
+        this.annotations = annotations;
+        this.testExecutionContext = testExecutionContext;
+    }
+
+    /**
+     * Create proxy of the field type.
+     *
+     * @return the proxy
+     */
+    public Object createProxy() {
+        ProxyFactory factory = new ProxyFactory();
+        factory.setTargetSource(this);
+        factory.setProxyTargetClass(true);
+        return factory.getProxy(fieldType.getClassLoader());
+    }
+
+    /**
+     * Checks whether the type could be proxied without changing behavior of its methods: the class and all its
+     * non-static methods (besides ones of {@link Object}) are not final.
+     *
+     * @param type the type
+     * @return the boolean
+     */
+    public static boolean isProxyable(Class<?> type) {
+        if (Modifier.isFinal(type.getModifiers())) {
+            return false;
+        }
+        for (Class<?> cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            for (Method method : cls.getDeclaredMethods()) {
+                int modifiers = method.getModifiers();
+                if (Modifier.isFinal(modifiers) && !Modifier.isStatic(modifiers) && !Modifier.isPrivate(modifiers)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized Class<?> getTargetClass() {
+        return fieldType;
+    }
+
+    @Override
+    protected Object createObject() throws Exception {
+        return processor.processField(field, fieldType, obj, objType, annotations, testExecutionContext);
+    }
+}
@@ -30,7 +30,6 @@ import com.coherentsolutions.yaf.core.bean.field.YafFieldProcessor;
 import com.coherentsolutions.yaf.core.context.test.TestExecutionContext;
 import com.coherentsolutions.yaf.core.exception.BeanInitYafException;
 import com.coherentsolutions.yaf.core.utils.YafBeanUtils;
-import com.coherentsolutions.yaf.core.utils.YafReflectionUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
@@ -39,6 +38,8 @@ import org.springframework.stereotype.Service;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The type Yaf bean processor.
@@ -70,6 +71,17 @@ public class YafBeanProcessor {
     @Autowired(required = false)
     List<YafFieldPostProcessor> fieldPostProcessors;
 
+    /**
+     * The Properties.
+     */
+    @Autowired
+    YafBeanProperties properties;
+
+    /**
+     * Injection plans per bean class.
+     */
+    private final Map<Class, InjectionPlan> plans = new ConcurrentHashMap<>();
+
     /**
      * Process bean.
      *
@@ -82,82 +94,67 @@ public class YafBeanProcessor {
             throws BeanInitYafException {
         Class beanType = bean.getClass();
 
-        List<Field> fields = beanUtils.getClassYafFields(beanType);
+        InjectionPlan plan = plans.computeIfAbsent(beanType,
+                t -> new InjectionPlan(t, beanUtils.getClassYafFields(t), fieldProcessors, fieldPostProcessors,
+                        properties.isLazy()));
 
-        for (Field field : fields) {
-            Class fieldType = field.getType();
+        for (InjectionPlan.FieldStep step : plan.steps) {
+            Field field = step.field;
+            Class fieldType = step.fieldType;
+
+            if (step.lazy) {
+                step.set(bean, new LazyYafBeanTargetSource(step.processors[0], field, fieldType, bean, beanType,
+                        annotations, testExecutionContext).createProxy());
+                continue;
+            }
 
-            Object fieldValue = getFieldValue(field, fieldType, bean, beanType, annotations, testExecutionContext);
+            Object fieldValue = null;
+            YafFieldProcessor fieldProcessor = findProcessor(step, bean, beanType, annotations, testExecutionContext);
+            if (fieldProcessor != null) {
+                fieldValue = fieldProcessor.processField(field, fieldType, bean, beanType, annotations,
+                        testExecutionContext);
+            }
 
             if (fieldValue == null) {
                 try {
-                    fieldValue = field.get(bean);
+                    fieldValue = step.get(bean);
                 } catch (IllegalAccessException e) {
                     e.printStackTrace();
                 }
             }
 
-            fieldValue = getPostProcessedFieldValue(field, fieldType, fieldValue, bean, beanType, annotations,
+            YafFieldPostProcessor fieldPostProcessor = findPostProcessor(step, fieldValue, bean, beanType, annotations,
                     testExecutionContext);
-            YafReflectionUtils.setFieldValue(field, fieldValue, bean);
-
+            if (fieldPostProcessor != null) {
+                fieldValue = fieldPostProcessor.postProcessField(field, fieldType, fieldValue, bean, beanType,
+                        annotations, testExecutionContext);
+            }
+            step.set(bean, fieldValue);
         }
     }
 
-    /**
-     * Gets field value.
-     *
-     * @param field                the field
-     * @param fieldType            the field type
-     * @param bean                 the bean
-     * @param beanType             the bean type
-     * @param annotations          the annotations
-     * @param testExecutionContext the test execution context
-     * @return the field value
-     * @throws BeanInitYafException the bean init yaf exception
-     */
-    public Object getFieldValue(Field field, Class fieldType, Object bean, Class beanType, List<Annotation> annotations,
-                                TestExecutionContext testExecutionContext) throws BeanInitYafException {
-
-        YafFieldProcessor fieldProcessor = fieldProcessors.stream()
-                .filter(p -> p.canProcess(field, fieldType, bean, beanType, annotations, testExecutionContext))
-                .findFirst().orElse(null);
-
-        Object fieldValue = null;
-
-        if (fieldProcessor != null) {
-            fieldValue = fieldProcessor.processField(field, fieldType, bean, beanType, annotations,
-                    testExecutionContext);
+    private YafFieldProcessor findProcessor(InjectionPlan.FieldStep step, Object bean, Class beanType,
+                                            List<Annotation> annotations, TestExecutionContext testExecutionContext) {
+        for (int i = 0; i < step.processors.length; i++) {
+            YafFieldProcessor p = step.processors[i];
+            if (step.processorMatched[i]
+                    || p.canProcess(step.field, step.fieldType, bean, beanType, annotations, testExecutionContext)) {
+                return p;
+            }
         }
-        return fieldValue;
+        return null;
     }
 
-    /**
-     * Gets post processed field value.
-     *
-     * @param field                the field
-     * @param fieldType            the field type
-     * @param fieldValue           the field value
-     * @param bean                 the bean
-     * @param beanType             the bean type
-     * @param annotations          the annotations
-     * @param testExecutionContext the test execution context
-     * @return the post processed field value
-     * @throws BeanInitYafException the bean init yaf exception
-     */
-    public Object getPostProcessedFieldValue(Field field, Class fieldType, Object fieldValue, Object bean,
-                                             Class beanType, List<Annotation> annotations, TestExecutionContext testExecutionContext)
-            throws BeanInitYafException {
-
-        Object finalValue = fieldValue; // just for lambda
-        YafFieldPostProcessor fieldPostProcessor = fieldPostProcessors.stream().filter(
-                        p -> p.canPostProcess(field, fieldType, finalValue, bean, beanType, annotations, testExecutionContext))
-                .findFirst().orElse(null);
-
-        if (fieldPostProcessor != null) {
-            fieldValue = fieldPostProcessor.postProcessField(field, fieldType, finalValue, bean, beanType, annotations,
-                    testExecutionContext);
+    private YafFieldPostProcessor findPostProcessor(InjectionPlan.FieldStep step, Object fieldValue, Object bean,
+                                                    Class beanType, List<Annotation> annotations,
+                                                    TestExecutionContext testExecutionContext) {
+        for (int i = 0; i < step.postProcessors.length; i++) {
+            YafFieldPostProcessor p = step.postProcessors[i];
+            if (step.postProcessorMatched[i] || p.canPostProcess(step.field, step.fieldType, fieldValue, bean,
+                    beanType, annotations, testExecutionContext)) {
+                return p;
+            }
         }
-        return fieldValue;
+        return null;
     }
 }
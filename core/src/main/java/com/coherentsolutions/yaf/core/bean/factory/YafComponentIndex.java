@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.bean.factory;
+
+
+import com.coherentsolutions.yaf.core.consts.Consts;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.*;
+
+/**
+ * Build time index of yaf components, written by yaf-component-index annotation processor. Classes that are present in
+ * the index are configured by {@link LazyYafBeanProcessor} without loading them, other ones are inspected via
+ * reflection.
+ */
+@Slf4j
+public class YafComponentIndex {
+
+    /**
+     * The constant INDEX_LOCATION.
+     */
+    public static final String INDEX_LOCATION = "META-INF/yaf.components";
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Load index from all index files of the class loader.
+     *
+     * @param classLoader the class loader
+     * @return the yaf component index
+     */
+    public static YafComponentIndex load(ClassLoader classLoader) {
+        YafComponentIndex index = new YafComponentIndex();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                Properties properties = new Properties();
+                try (InputStream is = url.openStream()) {
+                    properties.load(is);
+                }
+                properties.forEach((k, v) -> index.entries.put((String) k, new Entry((String) v)));
+            }
+        } catch (IOException e) {
+            log.warn("Unable to read yaf components index, classes would be inspected at runtime. {}", e.getMessage());
+            index.entries.clear();
+        }
+        log.debug("Loaded {} indexed yaf components", index.entries.size());
+        return index;
+    }
+
+    /**
+     * Gets index entry of the class.
+     *
+     * @param className the class name
+     * @return the entry or null if class is not indexed
+     */
+    public Entry get(String className) {
+        return className != null ? entries.get(className) : null;
+    }
+
+    /**
+     * Is empty boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Index entry.
+     */
+    @Getter
+    public static class Entry {
+
+        /**
+         * Class is yaf bean.
+         */
+        boolean yafBean;
+        /**
+         * Bean should be lazy initialized.
+         */
+        boolean lazy;
+        /**
+         * Scope of yaf component, null for other beans.
+         */
+        String scope;
+        /**
+         * Class has yaf condition.
+         */
+        boolean condition;
+        /**
+         * Class is yaf data.
+         */
+        boolean data;
+
+        /**
+         * Instantiates a new Entry.
+         *
+         * @param flags the comma separated flags
+         */
+        Entry(String flags) {
+            for (String flag : flags.split(",")) {
+                switch (flag.trim()) {
+                    case "bean" -> yafBean = true;
+                    case "lazy" -> lazy = true;
+                    case "prototype" -> scope = BeanDefinition.SCOPE_PROTOTYPE;
+                    case "thread" -> scope = Consts.SCOPE_THREADLOCAL;
+                    case "condition" -> condition = true;
+                    case "data" -> data = true;
+                    default -> {
+                        // no flags or unknown one
+                    }
+                }
+            }
+        }
+    }
+}
@@ -76,6 +76,11 @@ public class YafContextFieldPostProcessor implements YafFieldProcessor {
                 && !Map.class.isAssignableFrom(objType);
     }
 
+    @Override
+    public boolean isClassLevel() {
+        return true;
+    }
+
     @Override
     public Object processField(Field field, Class fieldType, Object obj, Class objType, List<Annotation> annotations,
                                TestExecutionContext testExecutionContext) throws BeanInitYafException {
@@ -69,4 +69,14 @@ public interface YafFieldPostProcessor {
      */
     Object postProcessField(Field field, Class fieldType, Object fieldValue, Object obj, Class objType,
                             List<Annotation> annotations, TestExecutionContext testExecutionContext) throws BeanInitYafException;
+
+    /**
+     * Whether {@link #canPostProcess} result depends only on field, field type and bean class (field value, obj,
+     * annotations and context are not used), so it is computed once per bean class.
+     *
+     * @return the boolean
+     */
+    default boolean isClassLevel() {
+        return false;
+    }
 }
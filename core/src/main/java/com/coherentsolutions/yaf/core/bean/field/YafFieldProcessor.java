@@ -67,4 +67,14 @@ public interface YafFieldProcessor {
      */
     Object processField(Field field, Class fieldType, Object obj, Class objType, List<Annotation> annotations,
                         TestExecutionContext testExecutionContext) throws BeanInitYafException;
+
+    /**
+     * Whether {@link #canProcess} result depends only on field, field type and bean class (obj, annotations and context
+     * are not used), so it is computed once per bean class.
+     *
+     * @return the boolean
+     */
+    default boolean isClassLevel() {
+        return false;
+    }
 }
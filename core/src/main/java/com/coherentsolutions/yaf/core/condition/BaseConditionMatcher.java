@@ -32,6 +32,7 @@ import com.coherentsolutions.yaf.core.exec.model.device.DesktopDevice;
 import com.coherentsolutions.yaf.core.exec.model.device.Device;
 import com.coherentsolutions.yaf.core.exec.model.device.MobileDevice;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 /**
  * The type Base condition matcher.
@@ -59,6 +60,17 @@ public class BaseConditionMatcher implements ConditionMatcher {
         return score;
     }
 
+    /**
+     * Base matcher uses only device and condition, subclasses could use test context, so they should opt in
+     * explicitly by overriding this method.
+     *
+     * @return the boolean
+     */
+    @Override
+    public boolean isStatic() {
+        return ClassUtils.getUserClass(this) == BaseConditionMatcher.class;
+    }
+
     // todo select proper place for that
     private int matchScreenResolution(Device device, YafCondition condition,
                                       TestExecutionContext testExecutionContext) {
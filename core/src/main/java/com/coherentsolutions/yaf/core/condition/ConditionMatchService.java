@@ -25,16 +25,105 @@
 package com.coherentsolutions.yaf.core.condition;
 
 
+import com.coherentsolutions.yaf.core.bean.factory.YafComponentIndex;
 import com.coherentsolutions.yaf.core.context.test.TestExecutionContext;
+import com.coherentsolutions.yaf.core.exception.EnvSetupYafException;
 import com.coherentsolutions.yaf.core.exec.model.Environment;
+import com.coherentsolutions.yaf.core.exec.model.ExecutionConfiguration;
+import com.coherentsolutions.yaf.core.utils.ServiceProviderUtils;
 import com.coherentsolutions.yaf.core.utils.YafBeanUtils;
+import com.coherentsolutions.yaf.core.utils.YafReflectionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.stereotype.Service;
 
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * The type Condition match service.
  */
 @Service
-public class ConditionMatchService {
+@Slf4j
+public class ConditionMatchService implements InitializingBean {
+
+    /**
+     * The Application context.
+     */
+    @Autowired
+    ApplicationContext applicationContext;
+
+    /**
+     * The Properties.
+     */
+    @Autowired
+    ConditionProperties properties;
+
+    /**
+     * The Component index.
+     */
+    @Autowired(required = false)
+    YafComponentIndex componentIndex;
+
+    /**
+     * Precomputed scores per environment id and conditional bean class.
+     */
+    private final Map<String, Map<Class, Integer>> scoreMatrix = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterPropertiesSet() {
+        if (properties.isPrecompute()) {
+            ExecutionConfiguration configuration;
+            try {
+                configuration = ServiceProviderUtils.getExecutionService().getConfiguration();
+            } catch (Exception e) {
+                log.warn("Unable to read execution configuration, conditions are scored at runtime. {}",
+                        e.getMessage());
+                return;
+            }
+            precompute(configuration);
+        }
+    }
+
+    /**
+     * Precompute scores of all conditional beans against each environment of the configuration and validate that
+     * every group of conditional variants has exactly one best variant.
+     *
+     * @param configuration the configuration
+     */
+    public void precompute(ExecutionConfiguration configuration) {
+        if (configuration == null || configuration.getEnvironments() == null) {
+            return;
+        }
+        Map<Class, YafCondition> conditionalBeans = getConditionalBeans();
+        if (conditionalBeans.isEmpty()) {
+            return;
+        }
+        for (Environment env : configuration.getEnvironments().values()) {
+            Map<Class, Integer> envScores = new HashMap<>();
+            conditionalBeans.forEach((cls, condition) -> {
+                ConditionMatcher matcher = (ConditionMatcher) applicationContext.getBean(condition.matcher());
+                if (matcher.isStatic()) {
+                    envScores.put(cls, score(cls, condition, matcher, env, null));
+                }
+            });
+            scoreMatrix.put(env.getId(), envScores);
+        }
+        List<String> conflicts = validate(conditionalBeans.keySet(), configuration.getEnvironments().values());
+        if (!conflicts.isEmpty()) {
+            conflicts.forEach(log::warn);
+            if (properties.isFailOnConflict()) {
+                throw new EnvSetupYafException("Conditional beans conflicts: " + String.join("; ", conflicts));
+            }
+        }
+        log.debug("Precomputed condition scores of {} beans for {} environments", conditionalBeans.size(),
+                scoreMatrix.size());
+    }
 
     /**
      * Matches int.
@@ -46,17 +135,112 @@ public class ConditionMatchService {
      * @return the int
      */
     public int matches(Class page, Environment env, TestExecutionContext testExecutionContext, YafBeanUtils beanUtils) {
+        Map<Class, Integer> envScores = scoreMatrix.get(env.getId());
+        if (envScores != null) {
+            Integer score = envScores.get(page);
+            if (score != null) {
+                return score;
+            }
+        }
         YafCondition condition = beanUtils.getAnnotation(page, YafCondition.class);
         if (condition != null) {
             ConditionMatcher matcher = beanUtils.getBean(condition.matcher());
             if (matcher != null) {
-                ConditionMatcher finalMatcher = matcher;
-                return env.getDeviceList().stream()
-                        .mapToInt(device -> finalMatcher.matchScore(device, condition, page, testExecutionContext))
-                        .sum();
+                return score(page, condition, matcher, env, testExecutionContext);
             }
 
         }
         return 0;
     }
+
+    /**
+     * Checks whether score of the bean depends only on the environment, so the bean chosen for an environment could be
+     * reused by all its tests.
+     *
+     * @param cls       the cls
+     * @param beanUtils the bean utils
+     * @return the boolean
+     */
+    public boolean isStatic(Class cls, YafBeanUtils beanUtils) {
+        YafCondition condition = beanUtils.getAnnotation(cls, YafCondition.class);
+        if (condition == null) {
+            return true;
+        }
+        ConditionMatcher matcher = beanUtils.getBean(condition.matcher());
+        return matcher == null || matcher.isStatic();
+    }
+
+    private int score(Class page, YafCondition condition, ConditionMatcher matcher, Environment env,
+                      TestExecutionContext testExecutionContext) {
+        if (env.getDeviceList() == null) {
+            return 0;
+        }
+        return env.getDeviceList().stream()
+                .mapToInt(device -> matcher.matchScore(device, condition, page, testExecutionContext)).sum();
+    }
+
+    private Map<Class, YafCondition> getConditionalBeans() {
+        Map<Class, YafCondition> beans = new LinkedHashMap<>();
+        ConfigurableListableBeanFactory beanFactory = applicationContext instanceof ConfigurableApplicationContext c
+                ? c.getBeanFactory() : null;
+        for (String name : applicationContext.getBeanDefinitionNames()) {
+            if (componentIndex != null && beanFactory != null) {
+                YafComponentIndex.Entry entry = componentIndex.get(beanFactory.getBeanDefinition(name).getBeanClassName());
+                if (entry != null && !entry.isCondition()) {
+                    continue;
+                }
+            }
+            Class cls = applicationContext.getType(name, false);
+            if (cls != null) {
+                YafCondition condition = YafReflectionUtils.getAnnotation(cls, YafCondition.class);
+                if (condition != null) {
+                    beans.put(cls, condition);
+                }
+            }
+        }
+        return beans;
+    }
+
+    /**
+     * Conditional variants compete when they share an abstract parent type (class or interface) of the project and
+     * all beans of that type are conditional. For such groups the best score should be non-negative and unique.
+     */
+    private List<String> validate(Set<Class> conditionalBeans, Collection<Environment> environments) {
+        Set<Class> groups = new LinkedHashSet<>();
+        for (Class cls : conditionalBeans) {
+            List<Class> parents = new ArrayList<>(Arrays.asList(cls.getInterfaces()));
+            if (cls.getSuperclass() != null) {
+                parents.add(cls.getSuperclass());
+            }
+            parents.stream().filter(p -> p.isInterface() || Modifier.isAbstract(p.getModifiers()))
+                    .filter(p -> !p.getName().startsWith("com.coherentsolutions.yaf.") && !p.getName().startsWith("java."))
+                    .forEach(groups::add);
+        }
+        List<String> conflicts = new ArrayList<>();
+        for (Class group : groups) {
+            List<Class> variants = new ArrayList<>();
+            for (String name : applicationContext.getBeanNamesForType(group, true, false)) {
+                variants.add(applicationContext.getType(name, false));
+            }
+            if (variants.size() < 2 || !conditionalBeans.containsAll(variants)) {
+                continue;
+            }
+            for (Environment env : environments) {
+                Map<Class, Integer> envScores = scoreMatrix.get(env.getId());
+                if (!envScores.keySet().containsAll(variants)) {
+                    // some variant is scored at runtime only
+                    continue;
+                }
+                int best = variants.stream().mapToInt(envScores::get).max().getAsInt();
+                long bestCount = variants.stream().filter(v -> envScores.get(v) == best).count();
+                if (best < 0) {
+                    conflicts.add("No variant of " + group.getName() + " matches env " + env.getName());
+                } else if (bestCount > 1) {
+                    conflicts.add("Ambiguous variants of " + group.getName() + " for env " + env.getName() + ": "
+                            + variants.stream().filter(v -> envScores.get(v) == best).map(Class::getSimpleName).toList());
+                }
+            }
+        }
+        return conflicts;
+    }
 }
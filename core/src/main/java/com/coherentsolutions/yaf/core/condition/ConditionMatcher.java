@@ -44,4 +44,14 @@ public interface ConditionMatcher {
      */
     int matchScore(Device device, YafCondition pageCondition, Class cls, TestExecutionContext testExecutionContext);
 
+    /**
+     * Whether the score depends only on the device and condition, so it could be computed once per environment
+     * (test execution context is null in that case).
+     *
+     * @return the boolean
+     */
+    default boolean isStatic() {
+        return false;
+    }
+
 }
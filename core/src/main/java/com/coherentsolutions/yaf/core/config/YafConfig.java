@@ -30,6 +30,7 @@ import com.coherentsolutions.yaf.core.api.properties.ApiPropertiesHolder;
 import com.coherentsolutions.yaf.core.api.properties.ApiPropertiesManager;
 import com.coherentsolutions.yaf.core.bean.YafBean;
 import com.coherentsolutions.yaf.core.consts.Consts;
+import com.coherentsolutions.yaf.core.context.scope.TestScope;
 import com.coherentsolutions.yaf.core.enums.DeviceType;
 import com.coherentsolutions.yaf.core.pom.YafComponent;
 import com.fasterxml.jackson.core.JsonParser;
@@ -37,8 +38,10 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javafaker.Faker;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.CustomScopeConfigurer;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -48,6 +51,8 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.core.annotation.Order;
@@ -58,6 +63,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.stereotype.Component;
 
+import java.lang.management.ManagementFactory;
 import java.util.*;
 
 /**
@@ -101,19 +107,24 @@ public class YafConfig implements AppConfig {
         arguments = args;
     }
 
+    /**
+     * Registers test scope statically, so it is also available when context is started from AOT generated
+     * initializers.
+     *
+     * @return the custom scope configurer
+     */
+    @Bean
+    public static CustomScopeConfigurer testScopeConfigurer() {
+        CustomScopeConfigurer customScopeConfigurer = new CustomScopeConfigurer();
+        customScopeConfigurer.addScope(Consts.SCOPE_THREADLOCAL, new TestScope());
+        return customScopeConfigurer;
+    }
+
     /**
      * Task executor task executor.
      *
      * @return the task executor
      */
-//
-    // @Bean
-    // public static CustomScopeConfigurer testScopeConfigurer() {
-    // CustomScopeConfigurer customScopeConfigurer = new CustomScopeConfigurer();
-    // customScopeConfigurer.addScope(Consts.SCOPE_THREADLOCAL, new SimpleThreadScope());
-    // return customScopeConfigurer;
-    // }
-    //
     @Bean
     public TaskExecutor taskExecutor() {
         return new SimpleAsyncTaskExecutor();
@@ -155,22 +166,6 @@ public class YafConfig implements AppConfig {
     }
 
 
-    // // no need, lets use simple cache config
-    // @Bean
-    // public CacheManager cacheManager() {
-    // SimpleCacheManager cacheManager = new SimpleCacheManager();
-    // List<Cache> caches = new ArrayList<>();
-    // caches.add(new ConcurrentMapCache("yafBeanFields"));
-    // caches.add(new ConcurrentMapCache("beanFields"));
-    // caches.add(new ConcurrentMapCache("beanNames"));
-    // caches.add(new ConcurrentMapCache("classChildren"));
-    // caches.add(new ConcurrentMapCache("annotation"));
-    // caches.add(new ConcurrentMapCache("annotations"));
-    // caches.add(new ConcurrentMapCache("beanWaits"));
-    // cacheManager.setCaches(caches);
-    // return cacheManager;
-    // }
-
     /**
      * Message source resource bundle message source.
      *
@@ -199,6 +194,17 @@ public class YafConfig implements AppConfig {
     }
 
 
+    /**
+     * Log context startup time.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void contextRefreshed(ContextRefreshedEvent event) {
+        log.info("Yaf context is ready in {} ms after JVM start{}", ManagementFactory.getRuntimeMXBean().getUptime(),
+                AotDetector.useGeneratedArtifacts() ? " (AOT mode)" : "");
+    }
+
     /**
      * The type Device type converter.
      */
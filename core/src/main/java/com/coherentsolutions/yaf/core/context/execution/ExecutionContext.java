@@ -127,12 +127,11 @@ public abstract class ExecutionContext extends Context implements Serializable,
     }
 
     /**
-     * Inited driver holders by suite map.
+     * Inited driver holders of suite and execution scopes.
      *
      * @param suiteName the suite name
      * @return the map
      */
-// TODO refactor!!! do not grab all drivers, mark each with thread id
     public Map<Device, DriverHolder> initedDriverHoldersBySuite(String suiteName) {
         DriversStore suiteDS = suiteDriversStore.get(suiteName);
         Map<Device, DriverHolder> holders = new HashMap<>();
@@ -169,7 +168,7 @@ public abstract class ExecutionContext extends Context implements Serializable,
     @Override
     protected void clear() {
         log.debug("Clearing execution context");
-        // we need to close all drivers
+        // we need to close all drivers, before finish event, so their quit is awaited and counted in metrics
         globalDriverStore.clearAll();
         suiteDriversStore.values().forEach(ds -> ds.clearAll());
         eventsService.sendEvent(new ExecutionFinishEvent().setEndTime(LocalDateTime.now()));
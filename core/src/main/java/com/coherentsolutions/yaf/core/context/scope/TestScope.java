@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.context.scope;
+
+
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.Scope;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scope of test execution context, components and other yaf beans that should live within the test.
+ * <p>
+ * Beans are stored in {@link TestScopeHandle}, which is bound to the thread that runs the test: it is opened on the
+ * first access (test start) and destroyed with all its beans on class finish, remaining handles are destroyed on
+ * execution finish. The handle could be passed to other thread (e.g. virtual one) with
+ * {@link TestScopeHandle#run(Runnable)} / {@link TestScopeHandle#call(java.util.concurrent.Callable)}, so the test
+ * could continue there with the same context.
+ */
+public class TestScope implements Scope {
+
+    private final ThreadLocal<TestScopeHandle> current = new ThreadLocal<>();
+
+    private final Set<TestScopeHandle> handles = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Gets handle bound to the current thread, new one is opened if there is no alive handle.
+     *
+     * @return the test scope handle
+     */
+    public TestScopeHandle currentHandle() {
+        TestScopeHandle handle = current.get();
+        if (handle == null || handle.isDestroyed()) {
+            handle = new TestScopeHandle(this);
+            current.set(handle);
+            handles.add(handle);
+        }
+        return handle;
+    }
+
+    /**
+     * Destroy handle bound to the current thread with all its beans.
+     */
+    public void destroyCurrent() {
+        TestScopeHandle handle = current.get();
+        current.remove();
+        if (handle != null) {
+            handles.remove(handle);
+            handle.destroy();
+        }
+    }
+
+    /**
+     * Destroy all opened handles.
+     */
+    public void destroyAll() {
+        current.remove();
+        handles.forEach(TestScopeHandle::destroy);
+        handles.clear();
+    }
+
+    /**
+     * Bind handle to the current thread.
+     *
+     * @param handle the handle, null to unbind
+     * @return previously bound handle
+     */
+    TestScopeHandle bind(TestScopeHandle handle) {
+        TestScopeHandle previous = current.get();
+        if (handle != null) {
+            current.set(handle);
+        } else {
+            current.remove();
+        }
+        return previous;
+    }
+
+    @Override
+    public Object get(String name, ObjectFactory<?> objectFactory) {
+        return currentHandle().get(name, objectFactory);
+    }
+
+    @Override
+    public Object remove(String name) {
+        return currentHandle().remove(name);
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback) {
+        currentHandle().registerDestructionCallback(name, callback);
+    }
+
+    @Override
+    public Object resolveContextualObject(String key) {
+        return null;
+    }
+
+    @Override
+    public String getConversationId() {
+        return currentHandle().getId();
+    }
+}
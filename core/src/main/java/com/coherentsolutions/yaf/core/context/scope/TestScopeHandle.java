@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.context.scope;
+
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Beans of the single test scope instance with their destruction callbacks.
+ */
+@Slf4j
+public class TestScopeHandle {
+
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    private final TestScope scope;
+
+    @Getter
+    private final String id = "test-scope-" + COUNTER.incrementAndGet();
+
+    private final Map<String, Object> beans = new LinkedHashMap<>();
+
+    private final Map<String, Runnable> destructionCallbacks = new LinkedHashMap<>();
+
+    @Getter
+    private volatile boolean destroyed;
+
+    /**
+     * Instantiates a new Test scope handle.
+     *
+     * @param scope the scope
+     */
+    TestScopeHandle(TestScope scope) {
+        this.scope = scope;
+    }
+
+    /**
+     * Run action in the current thread with this handle bound, previous binding is restored after.
+     *
+     * @param action the action
+     */
+    public void run(Runnable action) {
+        TestScopeHandle previous = scope.bind(this);
+        try {
+            action.run();
+        } finally {
+            scope.bind(previous);
+        }
+    }
+
+    /**
+     * Call action in the current thread with this handle bound, previous binding is restored after.
+     *
+     * @param <T>    the type parameter
+     * @param action the action
+     * @return the result
+     * @throws Exception the exception
+     */
+    public <T> T call(Callable<T> action) throws Exception {
+        TestScopeHandle previous = scope.bind(this);
+        try {
+            return action.call();
+        } finally {
+            scope.bind(previous);
+        }
+    }
+
+    /**
+     * Get bean, it is created if it is absent.
+     *
+     * @param name          the name
+     * @param objectFactory the object factory
+     * @return the object
+     */
+    synchronized Object get(String name, ObjectFactory<?> objectFactory) {
+        Object bean = beans.get(name);
+        if (bean == null) {
+            // factory could create other beans of this scope, so no computeIfAbsent here
+            bean = objectFactory.getObject();
+            beans.put(name, bean);
+        }
+        return bean;
+    }
+
+    /**
+     * Remove bean.
+     *
+     * @param name the name
+     * @return the object
+     */
+    synchronized Object remove(String name) {
+        destructionCallbacks.remove(name);
+        return beans.remove(name);
+    }
+
+    /**
+     * Register destruction callback.
+     *
+     * @param name     the name
+     * @param callback the callback
+     */
+    synchronized void registerDestructionCallback(String name, Runnable callback) {
+        destructionCallbacks.put(name, callback);
+    }
+
+    /**
+     * Destroy beans in reverse order of their creation.
+     */
+    void destroy() {
+        List<Map.Entry<String, Runnable>> callbacks;
+        synchronized (this) {
+            if (destroyed) {
+                return;
+            }
+            destroyed = true;
+            callbacks = new ArrayList<>(destructionCallbacks.entrySet());
+            destructionCallbacks.clear();
+            beans.clear();
+        }
+        Collections.reverse(callbacks);
+        for (Map.Entry<String, Runnable> callback : callbacks) {
+            try {
+                callback.getValue().run();
+            } catch (Exception e) {
+                log.warn("Unable to destroy test scoped bean {}: {}", callback.getKey(), e.getMessage());
+            }
+        }
+        log.debug("Test scope {} is destroyed", id);
+    }
+}
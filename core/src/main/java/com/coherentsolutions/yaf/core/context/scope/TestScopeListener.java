@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.context.scope;
+
+
+import com.coherentsolutions.yaf.core.consts.Consts;
+import com.coherentsolutions.yaf.core.events.global.ExecutionFinishEvent;
+import com.coherentsolutions.yaf.core.events.test.ClassFinishEvent;
+import com.coherentsolutions.yaf.core.events.test.TestStartEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds {@link TestScope} lifecycle to test events.
+ */
+@Component
+public class TestScopeListener {
+
+    /**
+     * The Bean factory.
+     */
+    @Autowired
+    ConfigurableListableBeanFactory beanFactory;
+
+    /**
+     * Open scope for the test thread before context is built.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Order(0)
+    public void onTestStart(TestStartEvent event) {
+        TestScope scope = getScope();
+        if (scope != null) {
+            scope.currentHandle();
+        }
+    }
+
+    /**
+     * Destroy scope of the thread after all other class finish listeners.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onClassFinish(ClassFinishEvent event) {
+        TestScope scope = getScope();
+        if (scope != null) {
+            scope.destroyCurrent();
+        }
+    }
+
+    /**
+     * Destroy all remaining scopes. Goes before drivers teardown is awaited, so drivers of thread contexts are quit
+     * and counted in drivers metrics.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE - 3)
+    public void onExecutionFinish(ExecutionFinishEvent event) {
+        TestScope scope = getScope();
+        if (scope != null) {
+            scope.destroyAll();
+        }
+    }
+
+    private TestScope getScope() {
+        return beanFactory.getRegisteredScope(Consts.SCOPE_THREADLOCAL) instanceof TestScope scope ? scope : null;
+    }
+}
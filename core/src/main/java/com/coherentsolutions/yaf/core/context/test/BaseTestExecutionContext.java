@@ -77,7 +77,10 @@ public class BaseTestExecutionContext extends TestExecutionContext {
                 break;
             }
         }
-        usedInTestDrivers.add(driverHolder);
+        if (usedInTestDrivers.add(driverHolder)) {
+            driverMetricsService.used(driverHolder);
+        }
+        usedInTestDriversByType.putIfAbsent(device.getType(), driverHolder);
     }
 
     protected DriverHolder getDriverHolder(DeviceType deviceType, String... name) throws DriverYafException {
@@ -91,11 +94,15 @@ public class BaseTestExecutionContext extends TestExecutionContext {
         DriverHolder driverHolder = findDriverHolderInContext(device);
         if (driverHolder == null) {
             // no driver found, lets create the new driver
-            log.info("Create new " + driverLogString);
-            driverHolder = driverManager.getDriver(device);
+            driverHolder = driverPrefetchService.take(device);
+            if (driverHolder == null) {
+                log.info("Create new " + driverLogString);
+                driverHolder = driverPool.lease(device);
+            }
             if (driverHolder == null) {
                 throw new DriverYafException("Unable to create new " + driverLogString);
             }
+            driverPrefetchService.prefetch(device, driverHolder);
             // send new driver event
             applicationContext.publishEvent(new DriverStartEvent().setDriverHolder(driverHolder).setTestInfo(testInfo));
         }
@@ -29,12 +29,15 @@ import com.coherentsolutions.yaf.core.context.execution.ExecutionContext;
 import com.coherentsolutions.yaf.core.drivers.manager.DriverManager;
 import com.coherentsolutions.yaf.core.drivers.model.DriverHolder;
 import com.coherentsolutions.yaf.core.drivers.model.DriversStore;
+import com.coherentsolutions.yaf.core.drivers.pool.DriverPool;
+import com.coherentsolutions.yaf.core.drivers.prefetch.DriverPrefetchService;
 import com.coherentsolutions.yaf.core.enums.DeviceType;
 import com.coherentsolutions.yaf.core.enums.DriverScope;
 import com.coherentsolutions.yaf.core.events.test.TestStartEvent;
 import com.coherentsolutions.yaf.core.exception.DriverYafException;
 import com.coherentsolutions.yaf.core.exec.model.Environment;
 import com.coherentsolutions.yaf.core.exec.model.device.Device;
+import com.coherentsolutions.yaf.core.metrics.DriverMetricsService;
 import com.coherentsolutions.yaf.core.processor.test.TestMethodArgProcessor;
 import com.coherentsolutions.yaf.core.test.model.TestInfo;
 import lombok.Data;
@@ -92,6 +95,11 @@ public abstract class TestExecutionContext implements Serializable, DisposableBe
      */
     protected Map<String, Object> params;
 
+    /**
+     * Params added since {@link #startParamsRecording()}, null when params are not recorded.
+     */
+    protected Map<String, Object> recordedParams;
+
     /**
      * The Execution context.
      */
@@ -110,6 +118,24 @@ public abstract class TestExecutionContext implements Serializable, DisposableBe
     @Autowired
     protected DriverManager driverManager;
 
+    /**
+     * The Driver pool.
+     */
+    @Autowired
+    protected DriverPool driverPool;
+
+    /**
+     * The Driver prefetch service.
+     */
+    @Autowired
+    protected DriverPrefetchService driverPrefetchService;
+
+    /**
+     * The Driver metrics service.
+     */
+    @Autowired
+    protected DriverMetricsService driverMetricsService;
+
     /**
      * The Thread drives store.
      */
@@ -127,6 +153,11 @@ public abstract class TestExecutionContext implements Serializable, DisposableBe
     @Getter
     Set<DriverHolder> usedInTestDrivers;
 
+    /**
+     * The first used in test driver of each device type.
+     */
+    Map<DeviceType, DriverHolder> usedInTestDriversByType;
+
     /**
      * Instantiates a new Test execution context.
      */
@@ -135,6 +166,7 @@ public abstract class TestExecutionContext implements Serializable, DisposableBe
         threadDrivesStore = new DriversStore();
         params = new HashMap<>();
         usedInTestDrivers = new HashSet<>(); // todo think about other option to mark DH to context
+        usedInTestDriversByType = new EnumMap<>(DeviceType.class);
     }
 
     /**
@@ -230,6 +262,9 @@ public abstract class TestExecutionContext implements Serializable, DisposableBe
      */
     public void addPrams(Map<String, Object> p) {
         params.putAll(p);
+        if (recordedParams != null) {
+            recordedParams.putAll(p);
+        }
     }
 
     /**
@@ -240,6 +275,27 @@ public abstract class TestExecutionContext implements Serializable, DisposableBe
      */
     public void addPram(String key, Object val) {
         params.put(key, val);
+        if (recordedParams != null) {
+            recordedParams.put(key, val);
+        }
+    }
+
+    /**
+     * Start recording of added params.
+     */
+    public void startParamsRecording() {
+        recordedParams = new HashMap<>();
+    }
+
+    /**
+     * Stop recording of added params.
+     *
+     * @return params added since recording start
+     */
+    public Map<String, Object> stopParamsRecording() {
+        Map<String, Object> recorded = recordedParams != null ? recordedParams : new HashMap<>();
+        recordedParams = null;
+        return recorded;
     }
 
     /**
@@ -268,7 +324,7 @@ public abstract class TestExecutionContext implements Serializable, DisposableBe
      * @param stringParams the string params
      */
     public void addStringParams(Map<String, String> stringParams) {
-        params.putAll(stringParams.entrySet().stream().collect(Collectors.toMap(e -> e.getKey(), e -> e.getValue())));
+        addPrams(stringParams.entrySet().stream().collect(Collectors.toMap(e -> e.getKey(), e -> e.getValue())));
     }
 
     /**
@@ -278,8 +334,7 @@ public abstract class TestExecutionContext implements Serializable, DisposableBe
      * @return the driver holder
      */
     public DriverHolder findInitedDriverHolderByType(DeviceType deviceType) {
-        DriverHolder holder = usedInTestDrivers.stream().filter(d -> d.getDevice().getType().equals(deviceType))
-                .findFirst().orElse(null);
+        DriverHolder holder = usedInTestDriversByType.get(deviceType);
         if (holder == null) {
             // lets search in execution context
             holder = executionContext.findInitedDriverHolderByType(suiteName, deviceType);
@@ -302,6 +357,7 @@ public abstract class TestExecutionContext implements Serializable, DisposableBe
         // remove all drivers from testMethodScope
         threadDrivesStore.clearAll(DriverScope.METHOD);
         usedInTestDrivers.clear();
+        usedInTestDriversByType.clear();
     }
 
     @Override
@@ -318,5 +374,6 @@ public abstract class TestExecutionContext implements Serializable, DisposableBe
         threadDrivesStore.clearAll();
         params.clear();
         usedInTestDrivers.clear();
+        usedInTestDriversByType.clear();
     }
 }
@@ -30,6 +30,8 @@ import com.coherentsolutions.yaf.core.drivers.properties.GeneralDriverProperties
 import com.coherentsolutions.yaf.core.enums.DriverScope;
 import com.coherentsolutions.yaf.core.exception.DriverYafException;
 import com.coherentsolutions.yaf.core.exec.model.device.Device;
+import com.coherentsolutions.yaf.core.metrics.DriverMetricsService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
 import org.springframework.stereotype.Service;
@@ -39,6 +41,7 @@ import java.util.List;
 /**
  * The type Base driver manager.
  */
+@Slf4j
 @Service
 @ConditionalOnSingleCandidate(DriverManager.class)
 public class BaseDriverManager implements DriverManager {
@@ -54,23 +57,73 @@ public class BaseDriverManager implements DriverManager {
     @Autowired(required = false)
     GeneralDriverProperties driverProperties;
 
+    /**
+     * The Farm session limiter.
+     */
+    @Autowired
+    FarmSessionLimiter farmSessionLimiter;
+
+    /**
+     * The Driver metrics service.
+     */
+    @Autowired
+    DriverMetricsService driverMetricsService;
+
 
     @Override
     public DriverHolder getDriver(Device device) throws DriverYafException {
+        return createDriver(device, true);
+    }
+
+    @Override
+    public DriverHolder tryGetDriver(Device device) throws DriverYafException {
+        return createDriver(device, false);
+    }
+
+    private DriverHolder createDriver(Device device, boolean waitSession) throws DriverYafException {
         DriverResolver resolver = resolvers.stream().filter(r -> r.canResolve(device)).findFirst().orElse(null);
         if (resolver != null) {
-            DriverHolder holder = resolver.initDriver(device);
-            if (holder != null) {
-                holder.setScope(getDriversScope(holder));
-                if (holder.getDevice().getType() == null) {
-                    throw new DriverYafException("Please set proper device type for " + device.getName());
+            if (waitSession) {
+                farmSessionLimiter.acquire(device);
+            } else if (!farmSessionLimiter.tryAcquire(device)) {
+                return null;
+            }
+            DriverHolder holder = null;
+            boolean bound = false;
+            long start = System.nanoTime();
+            try {
+                holder = resolver.initDriver(device);
+                if (holder != null) {
+                    if (holder.getDevice().getType() == null) {
+                        throw new DriverYafException("Please set proper device type for " + device.getName());
+                    }
+                    holder.setScope(getDriversScope(holder));
+                    driverMetricsService.created(resolver, holder, System.nanoTime() - start);
+                    farmSessionLimiter.bind(holder);
+                    bound = true;
+                    return holder;
+                }
+            } finally {
+                if (!bound) {
+                    // session is not handed to the caller, so free it here
+                    quitQuietly(holder);
+                    farmSessionLimiter.release(device);
                 }
-                return holder;
             }
         }
         throw new DriverYafException("Unable to init proper driver for device " + device.getName());
     }
 
+    private void quitQuietly(DriverHolder holder) {
+        if (holder != null) {
+            try {
+                holder.quit();
+            } catch (Exception e) {
+                log.warn("Unable to quit rejected driver of {}: {}", holder.getDevice().getName(), e.getMessage());
+            }
+        }
+    }
+
     /**
      * Gets drivers scope.
      *
@@ -42,4 +42,15 @@ public interface DriverManager {
      * @throws DriverYafException the driver yaf exception
      */
     DriverHolder getDriver(Device device) throws DriverYafException;
+
+    /**
+     * Gets driver only when it could be started without waiting for a free farm session.
+     *
+     * @param device the device
+     * @return the driver or null if device farm has no free sessions
+     * @throws DriverYafException the driver yaf exception
+     */
+    default DriverHolder tryGetDriver(Device device) throws DriverYafException {
+        return getDriver(device);
+    }
 }
@@ -0,0 +1,237 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.drivers.manager;
+
+
+import com.coherentsolutions.yaf.core.drivers.model.DriverHolder;
+import com.coherentsolutions.yaf.core.events.global.ExecutionFinishEvent;
+import com.coherentsolutions.yaf.core.exception.DriverYafException;
+import com.coherentsolutions.yaf.core.exec.model.device.Device;
+import com.coherentsolutions.yaf.core.exec.model.farm.Farm;
+import com.coherentsolutions.yaf.core.metrics.LatencyHistogram;
+import com.coherentsolutions.yaf.core.metrics.YafFarmSessionMetric;
+import com.coherentsolutions.yaf.core.metrics.YafMetricsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits amount of concurrent sessions on farms with {@link Farm#getMaxSessions()}, so threads wait locally (in fair
+ * order) for a free session instead of queueing and timing out on the remote side.
+ */
+@Service
+@Slf4j
+public class FarmSessionLimiter {
+
+    /**
+     * The Metrics service.
+     */
+    @Autowired
+    YafMetricsService metricsService;
+
+    /**
+     * Sessions state by farm name.
+     */
+    Map<String, FarmSessions> farms = new ConcurrentHashMap<>();
+
+    /**
+     * Farms of drivers holding a session.
+     */
+    Map<DriverHolder, FarmSessions> holders = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Wait for free session on device farm.
+     *
+     * @param device the device
+     */
+    public void acquire(Device device) {
+        FarmSessions sessions = getSessions(device);
+        if (sessions == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            sessions.semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DriverYafException("Interrupted while waiting for a free session on " + sessions.name);
+        }
+        long waited = System.nanoTime() - start;
+        sessions.waits.recordNanos(waited);
+        sessions.opened();
+        if (waited > 1_000_000_000L) {
+            log.info("Waited {}ms for a free session on farm {}", waited / 1_000_000, sessions.name);
+        }
+    }
+
+    /**
+     * Take free session on device farm without waiting, threads already waiting for a session are not overtaken.
+     *
+     * @param device the device
+     * @return true if session is taken (or farm is not limited)
+     */
+    public boolean tryAcquire(Device device) {
+        FarmSessions sessions = getSessions(device);
+        if (sessions == null) {
+            return true;
+        }
+        try {
+            // timed variant respects fairness, unlike plain tryAcquire()
+            if (!sessions.semaphore.tryAcquire(0, TimeUnit.SECONDS)) {
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        sessions.opened();
+        return true;
+    }
+
+    /**
+     * Release session acquired for device, when driver was not created.
+     *
+     * @param device the device
+     */
+    public void release(Device device) {
+        FarmSessions sessions = getSessions(device);
+        if (sessions != null) {
+            sessions.closed();
+        }
+    }
+
+    /**
+     * Bind acquired session to the created driver.
+     *
+     * @param holder the holder
+     */
+    public void bind(DriverHolder holder) {
+        FarmSessions sessions = getSessions(holder.getDevice());
+        if (sessions != null) {
+            holders.put(holder, sessions);
+        }
+    }
+
+    /**
+     * Release session of quit driver.
+     *
+     * @param holder the holder
+     */
+    public void release(DriverHolder holder) {
+        FarmSessions sessions = holders.remove(holder);
+        if (sessions != null) {
+            sessions.closed();
+        }
+    }
+
+    /**
+     * Report wait time and utilisation of limited farms.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void onExecutionFinish(ExecutionFinishEvent event) {
+        farms.values().forEach(sessions -> {
+            YafFarmSessionMetric metric = sessions.toMetric();
+            log.info("Farm {}: {} sessions, max {} of {} used, utilisation {}%, wait p50 {}ms p95 {}ms max {}ms",
+                    metric.getFarm(), metric.getSessions(), metric.getValue(), metric.getMaxSessions(),
+                    Math.round(metric.getUtilisation() * 100), metric.getWaitP50() / 1000, metric.getWaitP95() / 1000,
+                    metric.getWaitMax() / 1000);
+            metricsService.addMetric(metric);
+        });
+    }
+
+    private FarmSessions getSessions(Device device) {
+        Farm farm = device.getFarm();
+        if (farm == null || farm.getMaxSessions() <= 0) {
+            return null;
+        }
+        return farms.computeIfAbsent(farm.getName(), n -> new FarmSessions(n, farm.getMaxSessions()));
+    }
+
+    /**
+     * Sessions state of single farm.
+     */
+    static class FarmSessions {
+
+        final String name;
+        final int maxSessions;
+        final Semaphore semaphore;
+        final LatencyHistogram waits = new LatencyHistogram();
+
+        int inUse;
+        int peak;
+        long firstOpened;
+        long lastChange;
+        // sum of opened sessions multiplied by nanos they were opened
+        double busyTime;
+
+        FarmSessions(String name, int maxSessions) {
+            this.name = name;
+            this.maxSessions = maxSessions;
+            this.semaphore = new Semaphore(maxSessions, true);
+        }
+
+        synchronized void opened() {
+            long now = System.nanoTime();
+            if (firstOpened == 0) {
+                firstOpened = now;
+                lastChange = now;
+            }
+            account(now);
+            inUse++;
+            peak = Math.max(peak, inUse);
+        }
+
+        synchronized void closed() {
+            account(System.nanoTime());
+            inUse--;
+            semaphore.release();
+        }
+
+        synchronized YafFarmSessionMetric toMetric() {
+            long now = System.nanoTime();
+            account(now);
+            long elapsed = firstOpened == 0 ? 0 : now - firstOpened;
+            double utilisation = elapsed > 0 ? busyTime / ((double) elapsed * maxSessions) : 0;
+            return new YafFarmSessionMetric(name, maxSessions, peak, utilisation, waits);
+        }
+
+        private void account(long now) {
+            if (lastChange != 0) {
+                busyTime += (double) inUse * (now - lastChange);
+                lastChange = now;
+            }
+        }
+    }
+}
@@ -128,4 +128,28 @@ public abstract class DriverHolder<T> {
      */
     public abstract void quit();
 
+    /**
+     * Forcibly releases driver resources when {@link #quit()} hangs, does nothing by default.
+     */
+    public void kill() {
+    }
+
+    /**
+     * Resets driver state, so it could be reused by another test (see {@link com.coherentsolutions.yaf.core.drivers.pool.DriverPool}).
+     *
+     * @return false if driver could not be reset and should be quit
+     */
+    public boolean reset() {
+        return false;
+    }
+
+    /**
+     * Checks that driver session is still responding.
+     *
+     * @return the boolean
+     */
+    public boolean isAlive() {
+        return driver != null;
+    }
+
 }
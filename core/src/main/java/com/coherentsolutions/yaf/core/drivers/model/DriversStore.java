@@ -25,6 +25,8 @@
 package com.coherentsolutions.yaf.core.drivers.model;
 
 
+import com.coherentsolutions.yaf.core.drivers.pool.DriverPool;
+import com.coherentsolutions.yaf.core.drivers.teardown.DriverTeardownService;
 import com.coherentsolutions.yaf.core.enums.DeviceType;
 import com.coherentsolutions.yaf.core.enums.DriverScope;
 import com.coherentsolutions.yaf.core.events.EventsService;
@@ -32,11 +34,17 @@ import com.coherentsolutions.yaf.core.events.driver.DriverStopEvent;
 import com.coherentsolutions.yaf.core.exception.DriverYafException;
 import com.coherentsolutions.yaf.core.exec.model.device.Device;
 import com.coherentsolutions.yaf.core.utils.StaticContextAccessor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 import lombok.experimental.Accessors;
 
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -49,13 +57,21 @@ public class DriversStore {
     /**
      * The Driver holder map.
      */
+    @Setter(AccessLevel.NONE)
     Map<Device, DriverHolder> driverHolderMap;
 
+    /**
+     * Drivers by device type, in order they were added.
+     */
+    @Setter(AccessLevel.NONE)
+    Map<DeviceType, List<DriverHolder>> typeIndex;
+
     /**
      * Instantiates a new Drivers store.
      */
     public DriversStore() {
         this.driverHolderMap = new ConcurrentHashMap<>();
+        this.typeIndex = new ConcurrentHashMap<>();
     }
 
     /**
@@ -91,7 +107,13 @@ public class DriversStore {
      * @return the drivers store
      */
     public DriversStore addDriver(Device device, DriverHolder driverHolder) {
-        driverHolderMap.put(device, driverHolder);
+        DriverHolder prev = driverHolderMap.put(device, driverHolder);
+        if (prev != driverHolder) {
+            if (prev != null) {
+                removeFromIndex(device, prev);
+            }
+            typeIndex.computeIfAbsent(device.getType(), t -> new CopyOnWriteArrayList<>()).add(driverHolder);
+        }
         return this;
     }
 
@@ -102,8 +124,9 @@ public class DriversStore {
      * @return the driver holder
      */
     public DriverHolder findInitedDriverByType(DeviceType deviceType) {
-        return driverHolderMap.entrySet().stream().filter(e -> e.getKey().getType().equals(deviceType))
-                .map(e -> e.getValue()).findFirst().orElse(null);
+        // iterator works on a snapshot, so concurrent removal can't break it
+        Iterator<DriverHolder> it = typeIndex.getOrDefault(deviceType, Collections.emptyList()).iterator();
+        return it.hasNext() ? it.next() : null;
     }
 
     /**
@@ -144,7 +167,11 @@ public class DriversStore {
         DriverHolder holder = driverHolderMap.remove(device);
         EventsService eventsService = StaticContextAccessor.getBean(EventsService.class);
         if (holder != null) {
-            holder.quit();
+            removeFromIndex(device, holder);
+            // pooled drivers are returned to the pool instead of quit
+            if (!StaticContextAccessor.getBean(DriverPool.class).release(holder)) {
+                StaticContextAccessor.getBean(DriverTeardownService.class).quit(holder);
+            }
 
             DriverStopEvent stopEvent = new DriverStopEvent();
             stopEvent.setDriverHolder(holder);
@@ -152,4 +179,11 @@ public class DriversStore {
         }
     }
 
+    private void removeFromIndex(Device device, DriverHolder holder) {
+        List<DriverHolder> holders = typeIndex.get(device.getType());
+        if (holders != null) {
+            holders.remove(holder);
+        }
+    }
+
 }
@@ -0,0 +1,368 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.drivers.pool;
+
+
+import com.coherentsolutions.yaf.core.drivers.manager.DriverManager;
+import com.coherentsolutions.yaf.core.drivers.model.DriverHolder;
+import com.coherentsolutions.yaf.core.drivers.teardown.DriverTeardownService;
+import com.coherentsolutions.yaf.core.events.global.ExecutionFinishEvent;
+import com.coherentsolutions.yaf.core.events.global.ExecutionStartEvent;
+import com.coherentsolutions.yaf.core.exception.DriverYafException;
+import com.coherentsolutions.yaf.core.exec.model.ExecutionConfiguration;
+import com.coherentsolutions.yaf.core.exec.model.device.Device;
+import com.coherentsolutions.yaf.core.utils.ServiceProviderUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps warm drivers per device and leases them to tests instead of creating a new driver for every test.
+ * <p>
+ * Returned drivers are reset ({@link DriverHolder#reset()}) before the next lease, drivers that could not be reset, are
+ * too old or served too many tests are quit and replaced in background. Idle drivers are periodically health checked.
+ */
+@Service
+@Slf4j
+public class DriverPool implements InitializingBean, DisposableBean {
+
+    /**
+     * The Properties.
+     */
+    @Autowired
+    DriverPoolProperties properties;
+
+    /**
+     * The Driver manager.
+     */
+    @Autowired
+    DriverManager driverManager;
+
+    /**
+     * The Teardown service.
+     */
+    @Autowired
+    DriverTeardownService teardownService;
+
+    /**
+     * Idle drivers by device.
+     */
+    Map<Device, Deque<PooledDriver>> idle = new ConcurrentHashMap<>();
+
+    /**
+     * Amount of drivers being started in background by device.
+     */
+    Map<Device, AtomicInteger> starting = new ConcurrentHashMap<>();
+
+    /**
+     * Leased drivers (by holder identity).
+     */
+    Map<DriverHolder, PooledDriver> leased = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Devices which drivers could not be pooled (because of scope).
+     */
+    Set<Device> notPooled = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolExecutor warmUpExecutor;
+    private ScheduledExecutorService healthCheckExecutor;
+    private volatile boolean closed;
+
+    /**
+     * Is enabled boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled() && !closed;
+    }
+
+    /**
+     * Lease driver for device, new driver is created if there is no idle one.
+     *
+     * @param device the device
+     * @return the driver holder
+     * @throws DriverYafException the driver yaf exception
+     */
+    public DriverHolder lease(Device device) throws DriverYafException {
+        if (!isEnabled() || notPooled.contains(device)) {
+            return driverManager.getDriver(device);
+        }
+        PooledDriver pooled = pollIdle(device);
+        if (pooled == null) {
+            DriverHolder holder = driverManager.getDriver(device);
+            if (!properties.getScopes().contains(holder.getScope())) {
+                log.debug("Drivers of {} scope are not pooled, device {}", holder.getScope(), device.getName());
+                notPooled.add(device);
+                return holder;
+            }
+            pooled = new PooledDriver(holder);
+        } else {
+            log.debug("Reusing pooled driver for {} [{}]", device.getName(), Thread.currentThread().getName());
+        }
+        pooled.lease();
+        leased.put(pooled.getHolder(), pooled);
+        warmUp(device);
+        return pooled.getHolder();
+    }
+
+    /**
+     * Return driver to the pool.
+     *
+     * @param holder the holder
+     * @return true if driver was leased from the pool (and so should not be quit by caller)
+     */
+    public boolean release(DriverHolder holder) {
+        PooledDriver pooled = leased.remove(holder);
+        if (pooled == null) {
+            return false;
+        }
+        Device device = holder.getDevice();
+        if (closed || isExpired(pooled) || !holder.reset()) {
+            discard(pooled);
+        } else {
+            idle.computeIfAbsent(device, d -> new ConcurrentLinkedDeque<>()).offerFirst(pooled);
+        }
+        warmUp(device);
+        return true;
+    }
+
+    /**
+     * Start idle drivers for device in background till there are {@link DriverPoolProperties#getSize()} of them.
+     *
+     * @param device the device
+     */
+    public void warmUp(Device device) {
+        if (!isEnabled() || notPooled.contains(device)) {
+            return;
+        }
+        AtomicInteger inProgress = starting.computeIfAbsent(device, d -> new AtomicInteger());
+        while (true) {
+            int current = inProgress.get();
+            if (idleCount(device) + current >= properties.getSize()) {
+                return;
+            }
+            if (inProgress.compareAndSet(current, current + 1)) {
+                try {
+                    warmUpExecutor.execute(() -> startIdleDriver(device, inProgress));
+                } catch (RejectedExecutionException e) {
+                    // pool is shut down
+                    inProgress.decrementAndGet();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Pre-spawn drivers for devices of all environments of the execution, so the first tests do not wait for them.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Order(1)
+    public void onExecutionStart(ExecutionStartEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        ExecutionConfiguration configuration;
+        try {
+            configuration = ServiceProviderUtils.getExecutionService().getConfiguration();
+        } catch (Exception e) {
+            log.warn("Unable to read execution configuration, drivers are warmed up on the first lease. {}",
+                    e.getMessage());
+            return;
+        }
+        if (configuration == null || configuration.getEnvironments() == null) {
+            return;
+        }
+        configuration.getEnvironments().values().stream().filter(env -> env.getDeviceList() != null)
+                .flatMap(env -> env.getDeviceList().stream()).distinct()
+                .filter(device -> device.getScope() == null || properties.getScopes().contains(device.getScope()))
+                .forEach(this::warmUp);
+    }
+
+    /**
+     * Quit all idle drivers, leased drivers are quit when released.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Order(1)
+    public void onExecutionFinish(ExecutionFinishEvent event) {
+        shutdown();
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("yaf-driver-pool-");
+        threadFactory.setDaemon(true);
+        int threads = Math.max(1, properties.getWarmUpThreads());
+        warmUpExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+        CustomizableThreadFactory checkThreadFactory = new CustomizableThreadFactory("yaf-driver-pool-check-");
+        checkThreadFactory.setDaemon(true);
+        healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(checkThreadFactory);
+        long interval = properties.getHealthCheckInterval();
+        healthCheckExecutor.scheduleWithFixedDelay(this::healthCheck, interval, interval, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        shutdown();
+    }
+
+    /**
+     * Shutdown.
+     */
+    public synchronized void shutdown() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (healthCheckExecutor != null) {
+            healthCheckExecutor.shutdownNow();
+        }
+        if (warmUpExecutor != null) {
+            warmUpExecutor.shutdown();
+            try {
+                warmUpExecutor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        idle.values().forEach(queue -> {
+            PooledDriver pooled;
+            while ((pooled = queue.pollFirst()) != null) {
+                discard(pooled);
+            }
+        });
+    }
+
+    /**
+     * Check idle drivers, broken and expired are replaced.
+     */
+    protected void healthCheck() {
+        try {
+            checkIdleDrivers();
+        } catch (Exception e) {
+            log.error("Unable to check idle drivers: {}", e.getMessage(), e);
+        }
+    }
+
+    private void checkIdleDrivers() {
+        idle.forEach((device, queue) -> {
+            for (PooledDriver pooled : new ArrayList<>(queue)) {
+                // take driver out of the queue, so it is not leased while checking
+                if (!queue.remove(pooled)) {
+                    continue;
+                }
+                if (!isExpired(pooled) && pooled.getHolder().isAlive()) {
+                    queue.offerLast(pooled);
+                } else {
+                    log.info("Idle driver for {} is expired or not responding, replacing it", device.getName());
+                    discard(pooled);
+                }
+            }
+            warmUp(device);
+        });
+    }
+
+    /**
+     * Is expired boolean.
+     *
+     * @param pooled the pooled
+     * @return the boolean
+     */
+    protected boolean isExpired(PooledDriver pooled) {
+        return pooled.getUses() >= properties.getMaxUses() || pooled.getAge() > properties.getMaxAge() * 1000;
+    }
+
+    /**
+     * Quit driver.
+     *
+     * @param pooled the pooled
+     */
+    protected void discard(PooledDriver pooled) {
+        log.debug("Quit pooled driver for {} after {} uses", pooled.getHolder().getDevice().getName(), pooled.getUses());
+        teardownService.quit(pooled.getHolder());
+    }
+
+    private PooledDriver pollIdle(Device device) {
+        Deque<PooledDriver> queue = idle.get(device);
+        if (queue == null) {
+            return null;
+        }
+        PooledDriver pooled;
+        while ((pooled = queue.pollFirst()) != null) {
+            if (!isExpired(pooled)) {
+                return pooled;
+            }
+            discard(pooled);
+        }
+        return null;
+    }
+
+    private int idleCount(Device device) {
+        Deque<PooledDriver> queue = idle.get(device);
+        return queue == null ? 0 : queue.size();
+    }
+
+    private void startIdleDriver(Device device, AtomicInteger inProgress) {
+        try {
+            DriverHolder holder = driverManager.getDriver(device);
+            PooledDriver pooled = new PooledDriver(holder);
+            if (closed) {
+                discard(pooled);
+                return;
+            }
+            if (!properties.getScopes().contains(holder.getScope())) {
+                // scope is known only after driver is created (e.g. warmed up on start)
+                log.debug("Drivers of {} scope are not pooled, device {}", holder.getScope(), device.getName());
+                notPooled.add(device);
+                discard(pooled);
+                return;
+            }
+            idle.computeIfAbsent(device, d -> new ConcurrentLinkedDeque<>()).offerLast(pooled);
+            log.debug("Warm driver for {} is started", device.getName());
+        } catch (Exception e) {
+            log.warn("Unable to start warm driver for {}: {}", device.getName(), e.getMessage());
+        } finally {
+            inProgress.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.drivers.pool;
+
+
+import com.coherentsolutions.yaf.core.consts.Consts;
+import com.coherentsolutions.yaf.core.enums.DriverScope;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * The type Driver pool properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = Consts.FRAMEWORK_NAME + ".driver.pool")
+public class DriverPoolProperties {
+
+    /**
+     * Reuse drivers between tests, if disabled every test gets a new driver.
+     */
+    boolean enabled = false;
+
+    /**
+     * Amount of idle (warm) drivers kept ready per device.
+     */
+    int size = 1;
+
+    /**
+     * Max amount of tests (leases) served by one driver before it is quit.
+     */
+    int maxUses = 50;
+
+    /**
+     * Max driver age (in seconds) before it is quit.
+     */
+    long maxAge = 1800;
+
+    /**
+     * Interval (in seconds) between idle drivers health checks.
+     */
+    long healthCheckInterval = 30;
+
+    /**
+     * Amount of threads that start warm drivers in background.
+     */
+    int warmUpThreads = 2;
+
+    /**
+     * Driver scopes which drivers are pooled, drivers of other scopes are created and quit as usual.
+     */
+    List<DriverScope> scopes = List.of(DriverScope.METHOD, DriverScope.CLASS);
+}
@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.drivers.pool;
+
+
+import com.coherentsolutions.yaf.core.drivers.model.DriverHolder;
+import lombok.Getter;
+
+/**
+ * Driver holder tracked by {@link DriverPool}.
+ */
+@Getter
+public class PooledDriver {
+
+    /**
+     * The Holder.
+     */
+    private final DriverHolder holder;
+
+    /**
+     * The Uses.
+     */
+    private int uses;
+
+    /**
+     * Instantiates a new Pooled driver.
+     *
+     * @param holder the holder
+     */
+    public PooledDriver(DriverHolder holder) {
+        this.holder = holder;
+    }
+
+    /**
+     * Mark driver as leased.
+     */
+    void lease() {
+        uses++;
+    }
+
+    /**
+     * Gets driver age in millis.
+     *
+     * @return the age
+     */
+    public long getAge() {
+        return System.currentTimeMillis() - holder.getInitTime();
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.drivers.prefetch;
+
+
+import com.coherentsolutions.yaf.core.drivers.manager.DriverManager;
+import com.coherentsolutions.yaf.core.drivers.model.DriverHolder;
+import com.coherentsolutions.yaf.core.drivers.pool.DriverPool;
+import com.coherentsolutions.yaf.core.drivers.teardown.DriverTeardownService;
+import com.coherentsolutions.yaf.core.enums.DriverScope;
+import com.coherentsolutions.yaf.core.events.global.ExecutionFinishEvent;
+import com.coherentsolutions.yaf.core.events.test.TestStartEvent;
+import com.coherentsolutions.yaf.core.exception.DriverYafException;
+import com.coherentsolutions.yaf.core.exec.model.device.Device;
+import com.coherentsolutions.yaf.core.metrics.YafDriverPrefetchMetric;
+import com.coherentsolutions.yaf.core.metrics.YafMetricsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Takes driver creation off the critical path of the test: when METHOD scoped driver is created for the test, the same
+ * driver for the next test on this thread is started in background and handed over to that test.
+ * <p>
+ * Prefetched driver that was not requested by the next test is quit and counted as wasted.
+ */
+@Service
+@Slf4j
+public class DriverPrefetchService implements DisposableBean {
+
+    private static final ThreadLocal<Long> TEST_SEQ = ThreadLocal.withInitial(() -> 0L);
+
+    /**
+     * The Properties.
+     */
+    @Autowired
+    DriverPrefetchProperties properties;
+
+    /**
+     * The Driver manager.
+     */
+    @Autowired
+    DriverManager driverManager;
+
+    /**
+     * The Driver pool.
+     */
+    @Autowired
+    DriverPool driverPool;
+
+    /**
+     * The Teardown service.
+     */
+    @Autowired
+    DriverTeardownService teardownService;
+
+    /**
+     * The Metrics service.
+     */
+    @Autowired
+    YafMetricsService metricsService;
+
+    /**
+     * Prefetched drivers by test thread.
+     */
+    Map<Thread, Map<Device, PrefetchedDriver>> prefetched = new ConcurrentHashMap<>();
+
+    /**
+     * Devices which drivers are prefetched (METHOD scoped).
+     */
+    Set<Device> prefetchable = ConcurrentHashMap.newKeySet();
+
+    AtomicLong hits = new AtomicLong();
+    AtomicLong misses = new AtomicLong();
+    AtomicLong wasted = new AtomicLong();
+
+    private volatile ThreadPoolExecutor executor;
+
+    /**
+     * Is enabled boolean. Prefetch makes no sense when drivers are pooled, pool keeps warm drivers itself.
+     *
+     * @return the boolean
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled() && !driverPool.isEnabled();
+    }
+
+    /**
+     * Take driver prefetched for the current thread.
+     *
+     * @param device the device
+     * @return the driver holder or null if there is no prefetched driver
+     */
+    public DriverHolder take(Device device) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Map<Device, PrefetchedDriver> drivers = prefetched.get(Thread.currentThread());
+        PrefetchedDriver prefetchedDriver = drivers == null ? null : drivers.remove(device);
+        if (prefetchedDriver == null) {
+            if (prefetchable.contains(device)) {
+                misses.incrementAndGet();
+            }
+            return null;
+        }
+        try {
+            DriverHolder holder = prefetchedDriver.getFuture().get(properties.getTimeout(), TimeUnit.SECONDS);
+            if (holder == null) {
+                log.debug("Driver for {} was not prefetched, farm has no free sessions", device.getName());
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            log.debug("Using prefetched driver for {} [{}]", device.getName(), Thread.currentThread().getName());
+            return holder;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Prefetched driver for {} is not available: {}", device.getName(), e.getMessage());
+        }
+        // here driver is broken or still starting, quit it when started
+        discard(prefetchedDriver);
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Start the same driver for the next test of the current thread.
+     *
+     * @param device the device
+     * @param holder driver created for the current test
+     */
+    public void prefetch(Device device, DriverHolder holder) {
+        if (!isEnabled() || holder.getScope() != DriverScope.METHOD) {
+            return;
+        }
+        prefetchable.add(device);
+        Map<Device, PrefetchedDriver> drivers = prefetched.computeIfAbsent(Thread.currentThread(),
+                t -> new ConcurrentHashMap<>());
+        if (drivers.containsKey(device)) {
+            return;
+        }
+        try {
+            CompletableFuture<DriverHolder> future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    // prefetch must not take a session needed by other tests, so it is skipped on busy farm
+                    return driverManager.tryGetDriver(device);
+                } catch (DriverYafException e) {
+                    throw new CompletionException(e);
+                }
+            }, getExecutor());
+            drivers.put(device, new PrefetchedDriver(future, TEST_SEQ.get()));
+        } catch (RejectedExecutionException e) {
+            log.debug("Driver prefetch is already stopped");
+        }
+    }
+
+    /**
+     * Drivers that were prefetched before previous test and not used by it are not needed anymore.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Order(0)
+    public void onTestStart(TestStartEvent event) {
+        long testSeq = TEST_SEQ.get() + 1;
+        TEST_SEQ.set(testSeq);
+        Map<Device, PrefetchedDriver> drivers = prefetched.get(Thread.currentThread());
+        if (drivers != null) {
+            drivers.entrySet().removeIf(e -> {
+                if (e.getValue().getTestSeq() < testSeq - 1) {
+                    discard(e.getValue());
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    /**
+     * Quit not used drivers and report prefetch metrics.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Order(1)
+    public void onExecutionFinish(ExecutionFinishEvent event) {
+        shutdown();
+        if (hits.get() + misses.get() > 0) {
+            YafDriverPrefetchMetric metric = new YafDriverPrefetchMetric(hits.get(), misses.get(), wasted.get());
+            log.info("Driver prefetch: {} hits, {} misses ({}% hit rate), {} wasted sessions", metric.getValue(),
+                    metric.getMisses(), Math.round(metric.getHitRate() * 100), metric.getWasted());
+            metricsService.addMetric(metric);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        shutdown();
+    }
+
+    /**
+     * Quit all not used drivers.
+     */
+    protected synchronized void shutdown() {
+        prefetched.values().forEach(drivers -> {
+            drivers.values().forEach(this::discard);
+            drivers.clear();
+        });
+        if (executor != null) {
+            // let already started drivers finish, so they are quit
+            executor.shutdown();
+            try {
+                executor.awaitTermination(properties.getTimeout(), TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Quit prefetched driver (as soon as it is started, without blocking the caller).
+     *
+     * @param prefetchedDriver the prefetched driver
+     */
+    protected void discard(PrefetchedDriver prefetchedDriver) {
+        wasted.incrementAndGet();
+        prefetchedDriver.getFuture().thenAccept(holder -> {
+            if (holder != null) {
+                teardownService.quit(holder);
+            }
+        });
+    }
+
+    private synchronized ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("yaf-driver-prefetch-");
+            threadFactory.setDaemon(true);
+            int threads = Math.max(1, properties.getThreads());
+            executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    threadFactory);
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.drivers.teardown;
+
+
+import com.coherentsolutions.yaf.core.drivers.manager.FarmSessionLimiter;
+import com.coherentsolutions.yaf.core.drivers.model.DriverHolder;
+import com.coherentsolutions.yaf.core.events.global.ExecutionFinishEvent;
+import com.coherentsolutions.yaf.core.metrics.DriverMetricsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Quits drivers off the test thread. Each quit is limited with {@link DriverTeardownProperties#getQuitTimeout()}, hung
+ * drivers are killed ({@link DriverHolder#kill()}). Execution finishes only when all drivers are quit.
+ */
+@Service
+@Slf4j
+public class DriverTeardownService implements DisposableBean {
+
+    /**
+     * The Properties.
+     */
+    @Autowired
+    DriverTeardownProperties properties;
+
+    /**
+     * The Farm session limiter.
+     */
+    @Autowired
+    FarmSessionLimiter farmSessionLimiter;
+
+    /**
+     * The Driver metrics service.
+     */
+    @Autowired
+    DriverMetricsService driverMetricsService;
+
+    /**
+     * Quits in progress.
+     */
+    Set<CompletableFuture<Void>> pending = ConcurrentHashMap.newKeySet();
+
+    private volatile ExecutorService quitExecutor;
+    private volatile ExecutorService killExecutor;
+
+    /**
+     * Quit driver (in background if async teardown is enabled).
+     *
+     * @param holder the holder
+     */
+    public void quit(DriverHolder holder) {
+        if (!properties.isAsync()) {
+            quitNow(holder);
+            return;
+        }
+        try {
+            ensureExecutors();
+            CompletableFuture<Void> quit = CompletableFuture.runAsync(() -> timedQuit(holder), quitExecutor)
+                    .orTimeout(properties.getQuitTimeout(), TimeUnit.SECONDS)
+                    .exceptionallyAsync(e -> {
+                        log.warn("Driver for {} was not quit properly ({}), killing it", holder.getDevice().getName(),
+                                e instanceof TimeoutException ? "timeout" : e.getMessage());
+                        holder.kill();
+                        return null;
+                    }, killExecutor);
+            pending.add(quit);
+            quit.whenComplete((r, e) -> {
+                pending.remove(quit);
+                farmSessionLimiter.release(holder);
+            });
+        } catch (RejectedExecutionException e) {
+            // teardown is already stopped
+            quitNow(holder);
+        }
+    }
+
+    private void quitNow(DriverHolder holder) {
+        try {
+            timedQuit(holder);
+        } finally {
+            farmSessionLimiter.release(holder);
+        }
+    }
+
+    private void timedQuit(DriverHolder holder) {
+        long start = System.nanoTime();
+        holder.quit();
+        driverMetricsService.quit(holder, System.nanoTime() - start);
+    }
+
+    /**
+     * Wait till all drivers are quit.
+     */
+    public void awaitAll() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        log.info("Waiting for {} drivers to quit", pending.size());
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]))
+                    .get(properties.getFinishTimeout(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("{} drivers were not quit in {}s", pending.size(), properties.getFinishTimeout());
+        }
+    }
+
+    /**
+     * Execution is finished only when all drivers are quit, so this listener goes after others (but before driver
+     * metrics are published).
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE - 2)
+    public void onExecutionFinish(ExecutionFinishEvent event) {
+        awaitAll();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        awaitAll();
+        if (quitExecutor != null) {
+            quitExecutor.shutdownNow();
+            killExecutor.shutdownNow();
+        }
+    }
+
+    private synchronized void ensureExecutors() {
+        if (quitExecutor != null) {
+            return;
+        }
+        CustomizableThreadFactory quitThreadFactory = new CustomizableThreadFactory("yaf-driver-teardown-");
+        quitThreadFactory.setDaemon(true);
+        quitExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getThreads()), quitThreadFactory);
+        CustomizableThreadFactory killThreadFactory = new CustomizableThreadFactory("yaf-driver-kill-");
+        killThreadFactory.setDaemon(true);
+        killExecutor = Executors.newCachedThreadPool(killThreadFactory);
+    }
+}
@@ -25,6 +25,10 @@
 package com.coherentsolutions.yaf.core.events;
 
 
+import com.coherentsolutions.yaf.core.events.deferred.DeferredEventDispatcher;
+import com.coherentsolutions.yaf.core.events.global.ExecutionFinishEvent;
+import com.coherentsolutions.yaf.core.events.journal.EventJournal;
+import com.coherentsolutions.yaf.core.metrics.EventDispatchMetricsService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
@@ -43,6 +47,24 @@ public class EventsService {
     @Autowired
     ApplicationContext applicationContext;
 
+    /**
+     * The Deferred event dispatcher.
+     */
+    @Autowired
+    DeferredEventDispatcher deferredEventDispatcher;
+
+    /**
+     * The Dispatch metrics service.
+     */
+    @Autowired
+    EventDispatchMetricsService dispatchMetricsService;
+
+    /**
+     * The Event journal.
+     */
+    @Autowired
+    EventJournal eventJournal;
+
     /**
      * Send event.
      *
@@ -51,6 +73,18 @@ public class EventsService {
     public void sendEvent(Event event) {
 
         log.debug("Sending event {}", event);
+        eventJournal.append(event);
+        long start = System.nanoTime();
         applicationContext.publishEvent(event);
+        if (dispatchMetricsService.isEnabled()) {
+            dispatchMetricsService.record(event.getEventName(), EventDispatchMetricsService.ALL_LISTENERS,
+                    System.nanoTime() - start);
+        }
+        if (event instanceof ExecutionFinishEvent) {
+            // execution is over only when all deferred listeners have processed their events
+            deferredEventDispatcher.drain();
+            dispatchMetricsService.report();
+            eventJournal.close();
+        }
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.events;
+
+
+import com.coherentsolutions.yaf.core.events.deferred.DeferredApplicationListenerMethodAdapter;
+import com.coherentsolutions.yaf.core.metrics.EventDispatchMetricsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Replaces default spring multicaster to measure how long each listener handles yaf {@link Event}s and to replay
+ * journaled events.
+ */
+@Component(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+public class InstrumentedEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    /**
+     * The Dispatch metrics service.
+     */
+    @Autowired
+    EventDispatchMetricsService dispatchMetricsService;
+
+    @Override
+    protected void invokeListener(ApplicationListener<?> listener, ApplicationEvent event) {
+        if (dispatchMetricsService == null || !dispatchMetricsService.isTracked(event)) {
+            super.invokeListener(listener, event);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            super.invokeListener(listener, event);
+        } finally {
+            dispatchMetricsService.record(listener, event, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Synchronously invoke only deferrable listeners of the event, used to replay journaled events.
+     *
+     * @param event the event
+     */
+    public void replayToDeferredListeners(PayloadApplicationEvent<?> event) {
+        for (ApplicationListener<?> listener : getApplicationListeners(event, event.getResolvableType())) {
+            if (listener instanceof DeferredApplicationListenerMethodAdapter deferredListener) {
+                deferredListener.processEvent(event);
+            }
+        }
+    }
+}
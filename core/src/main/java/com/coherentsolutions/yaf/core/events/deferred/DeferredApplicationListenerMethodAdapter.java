@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.events.deferred;
+
+
+import com.coherentsolutions.yaf.core.utils.StaticContextAccessor;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+
+import java.lang.reflect.Method;
+
+/**
+ * Listener method adapter that hands events over to {@link DeferredEventDispatcher} instead of processing them in the
+ * sender thread.
+ */
+public class DeferredApplicationListenerMethodAdapter extends ApplicationListenerMethodAdapter {
+
+    /**
+     * The Listener key, all methods of the same bean share one executor.
+     */
+    @Getter
+    private final String listenerKey;
+
+    private volatile DeferredEventDispatcher dispatcher;
+
+    /**
+     * Instantiates a new Deferred application listener method adapter.
+     *
+     * @param beanName    the bean name
+     * @param targetClass the target class
+     * @param method      the method
+     */
+    public DeferredApplicationListenerMethodAdapter(String beanName, Class<?> targetClass, Method method) {
+        super(beanName, targetClass, method);
+        this.listenerKey = beanName;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        getDispatcher().dispatch(this, event);
+    }
+
+    private DeferredEventDispatcher getDispatcher() {
+        if (dispatcher == null) {
+            dispatcher = StaticContextAccessor.getBean(DeferredEventDispatcher.class);
+        }
+        return dispatcher;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.events.deferred;
+
+
+import com.coherentsolutions.yaf.core.events.journal.EventJournal;
+import com.coherentsolutions.yaf.core.metrics.EventDispatchMetricsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Executes {@link YafDeferredListener} listeners on per-listener single thread executors with bounded queues, so each
+ * listener receives events in the same order they were sent, but test threads are not blocked by slow listeners.
+ */
+@Service
+@Slf4j
+public class DeferredEventDispatcher implements DisposableBean {
+
+    private static final ThreadLocal<Boolean> DEFERRED_THREAD = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * The Properties.
+     */
+    @Autowired
+    DeferredEventsProperties properties;
+
+    /**
+     * The Dispatch metrics service.
+     */
+    @Autowired
+    EventDispatchMetricsService dispatchMetricsService;
+
+    /**
+     * The Journal.
+     */
+    @Autowired
+    EventJournal journal;
+
+    /**
+     * The Executors by listener key.
+     */
+    Map<String, ThreadPoolExecutor> executors = new ConcurrentHashMap<>();
+
+    /**
+     * Dispatch event to the listener.
+     *
+     * @param listener the listener
+     * @param event    the event
+     */
+    public void dispatch(DeferredApplicationListenerMethodAdapter listener, ApplicationEvent event) {
+        if (journal.isSkipDeferredListeners()) {
+            // listener will get this event from the journal replay
+            return;
+        }
+        if (!properties.isEnabled() || journal.isReplaying()) {
+            listener.processEvent(event);
+            return;
+        }
+        Runnable task = () -> {
+            long start = System.nanoTime();
+            try {
+                listener.processEvent(event);
+            } catch (Throwable e) {
+                log.error("Deferred listener {} failed to process {}: {}", listener.getListenerId(), event, e.getMessage(), e);
+            } finally {
+                if (dispatchMetricsService.isTracked(event)) {
+                    dispatchMetricsService.record(listener, event, System.nanoTime() - start);
+                }
+            }
+        };
+        executors.computeIfAbsent(listener.getListenerKey(), this::buildExecutor).execute(task);
+    }
+
+    /**
+     * Waits till all deferred listeners process their queues. Events sent by listeners while draining are drained too.
+     */
+    public void drain() {
+        if (DEFERRED_THREAD.get()) {
+            // draining from the deferred listener itself will never finish
+            log.warn("Unable to drain deferred events from deferred listener thread {}", Thread.currentThread().getName());
+            return;
+        }
+        while (!executors.isEmpty()) {
+            for (String key : new ArrayList<>(executors.keySet())) {
+                ThreadPoolExecutor executor = executors.remove(key);
+                if (executor != null) {
+                    log.debug("Draining {} deferred events of {}", executor.getQueue().size(), key);
+                    executor.shutdown();
+                    try {
+                        if (!executor.awaitTermination(properties.getDrainTimeout(), TimeUnit.SECONDS)) {
+                            log.error("Deferred listener {} has not finished in {}s, {} events are dropped", key,
+                                    properties.getDrainTimeout(), executor.shutdownNow().size());
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        log.error("Interrupted while draining deferred listener {}", key);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        drain();
+    }
+
+    /**
+     * Build executor for listener.
+     *
+     * @param key the listener key
+     * @return the thread pool executor
+     */
+    protected ThreadPoolExecutor buildExecutor(String key) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("yaf-deferred-" + key + "-");
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(properties.getQueueCapacity()), r -> threadFactory.newThread(() -> {
+            DEFERRED_THREAD.set(true);
+            r.run();
+        }), this::onQueueFull);
+        return executor;
+    }
+
+    /**
+     * Applies configured backpressure when listener queue is full.
+     *
+     * @param task     the task
+     * @param executor the executor
+     */
+    protected void onQueueFull(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            // executor is already drained, do not lose the event
+            task.run();
+            return;
+        }
+        switch (properties.getBackpressure()) {
+            case BLOCK: {
+                try {
+                    executor.getQueue().put(task);
+                    if (executor.isShutdown() && executor.getQueue().remove(task)) {
+                        task.run();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    task.run();
+                }
+                break;
+            }
+            case CALLER_RUNS: {
+                task.run();
+                break;
+            }
+            case DISCARD: {
+                log.warn("Deferred listener queue is full, event is discarded");
+                break;
+            }
+        }
+    }
+}
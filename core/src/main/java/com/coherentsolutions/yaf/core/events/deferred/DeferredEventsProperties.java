@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.events.deferred;
+
+
+import com.coherentsolutions.yaf.core.consts.Consts;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The type Deferred events properties.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = Consts.FRAMEWORK_NAME + ".events.deferred")
+public class DeferredEventsProperties {
+
+    /**
+     * Run {@link YafDeferredListener} listeners asynchronously, if disabled they are executed inline.
+     */
+    boolean enabled = false;
+
+    /**
+     * Max amount of not processed events per listener.
+     */
+    int queueCapacity = 1000;
+
+    /**
+     * What to do when listener queue is full.
+     */
+    Backpressure backpressure = Backpressure.BLOCK;
+
+    /**
+     * Max time (in seconds) to wait for each listener to process its queue on execution finish.
+     */
+    long drainTimeout = 600;
+
+    /**
+     * The enum Backpressure.
+     */
+    public enum Backpressure {
+        /**
+         * Block sender thread till there is a free place in the queue.
+         */
+        BLOCK,
+        /**
+         * Process event in the sender thread.
+         */
+        CALLER_RUNS,
+        /**
+         * Drop event (with warning).
+         */
+        DISCARD
+    }
+}
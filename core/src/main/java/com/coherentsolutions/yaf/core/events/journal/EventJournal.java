@@ -0,0 +1,222 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.events.journal;
+
+
+import com.coherentsolutions.yaf.core.events.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in append-only journal of all events sent via {@link com.coherentsolutions.yaf.core.events.EventsService}.
+ * Each thread writes to its own memory mapped segment, the only shared state is the global sequence counter, so
+ * appends are lock-free.
+ */
+@Service
+@Slf4j
+public class EventJournal implements DisposableBean {
+
+    /**
+     * The Properties.
+     */
+    @Autowired
+    EventJournalProperties properties;
+
+    private final ObjectMapper mapper = EventJournalMapper.build();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger segmentCounter = new AtomicInteger();
+    private final ThreadLocal<JournalSegment> threadSegment = new ThreadLocal<>();
+    private final Set<JournalSegment> openSegments = ConcurrentHashMap.newKeySet();
+    private final Map<Class<?>, LongAdder> droppedEvents = new ConcurrentHashMap<>();
+
+    /**
+     * The Replaying flag, journal is not written and deferred listeners are executed inline while replaying.
+     */
+    @Getter
+    private volatile boolean replaying;
+
+    private volatile Path runDir;
+
+    /**
+     * Is journal enabled.
+     *
+     * @return the boolean
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Checks whether deferred listeners should be skipped in this run (they will be fed from the journal later).
+     *
+     * @return the boolean
+     */
+    public boolean isSkipDeferredListeners() {
+        return properties.isEnabled() && properties.isSkipDeferredListeners() && !replaying;
+    }
+
+    /**
+     * Append event to the journal of the current thread.
+     *
+     * @param event the event
+     */
+    public void append(Event event) {
+        if (!properties.isEnabled() || replaying) {
+            return;
+        }
+        byte[] payload;
+        try {
+            payload = mapper.writeValueAsBytes(event);
+        } catch (Exception e) {
+            LongAdder dropped = droppedEvents.computeIfAbsent(event.getClass(), c -> new LongAdder());
+            if (dropped.sum() == 0) {
+                log.warn("Unable to journal {}, such events will be skipped: {}", event.getEventName(), e.getMessage());
+            }
+            dropped.increment();
+            return;
+        }
+        String eventClass = event.getClass().getName();
+        long seq = sequence.incrementAndGet();
+        try {
+            JournalSegment segment = threadSegment.get();
+            if (segment == null || !segment.append(seq, eventClass, payload)) {
+                if (segment != null) {
+                    closeSegment(segment);
+                }
+                segment = openSegment(JournalSegment.recordSize(eventClass, payload));
+                segment.append(seq, eventClass, payload);
+            }
+        } catch (IOException e) {
+            droppedEvents.computeIfAbsent(event.getClass(), c -> new LongAdder()).increment();
+            log.error("Unable to write {} to journal: {}", event.getEventName(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Flush and close all segments, next append will start new segments in the same run folder.
+     */
+    public void close() {
+        openSegments.forEach(this::closeSegment);
+        if (runDir != null) {
+            log.info("Events journal is written to {}", runDir.toAbsolutePath());
+        }
+        droppedEvents.forEach((cls, dropped) -> {
+            long count = dropped.sumThenReset();
+            if (count > 0) {
+                log.warn("{} events of type {} were not journaled, replay of this run is incomplete", count,
+                        cls.getSimpleName());
+            }
+        });
+    }
+
+    /**
+     * Gets count of events that were not written to the journal since the last close.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return droppedEvents.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Read event back from the journal record.
+     *
+     * @param record the record
+     * @return the event
+     * @throws IOException            the io exception
+     * @throws ClassNotFoundException the class not found exception
+     */
+    public Event readEvent(JournalRecord record) throws IOException, ClassNotFoundException {
+        Class<?> cls = Class.forName(record.getEventClass(), true, Thread.currentThread().getContextClassLoader());
+        return (Event) mapper.readValue(record.getPayload(), cls);
+    }
+
+    /**
+     * Mark replay start.
+     */
+    void startReplay() {
+        replaying = true;
+    }
+
+    /**
+     * Mark replay finish.
+     */
+    void finishReplay() {
+        replaying = false;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        close();
+    }
+
+    private JournalSegment openSegment(int minSize) throws IOException {
+        Path dir = getRunDir();
+        String threadName = Thread.currentThread().getName().replaceAll("[^A-Za-z0-9_.-]", "_");
+        Path file = dir.resolve(threadName + "-" + segmentCounter.incrementAndGet() + JournalSegment.EXT);
+        JournalSegment segment = new JournalSegment(file, Math.max(properties.getSegmentSize(), minSize));
+        threadSegment.set(segment);
+        openSegments.add(segment);
+        return segment;
+    }
+
+    private void closeSegment(JournalSegment segment) {
+        if (openSegments.remove(segment)) {
+            segment.close();
+        }
+        if (threadSegment.get() == segment) {
+            threadSegment.remove();
+        }
+    }
+
+    private Path getRunDir() throws IOException {
+        if (runDir == null) {
+            synchronized (this) {
+                if (runDir == null) {
+                    String name = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + "-"
+                            + ProcessHandle.current().pid();
+                    runDir = Files.createDirectories(Path.of(properties.getDir(), name));
+                }
+            }
+        }
+        return runDir;
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.events.journal;
+
+
+import com.coherentsolutions.yaf.core.drivers.model.DriverHolder;
+import com.coherentsolutions.yaf.core.log.TestLogData;
+import com.coherentsolutions.yaf.core.test.BaseYafTest;
+import com.coherentsolutions.yaf.core.test.model.ClassInfo;
+import com.coherentsolutions.yaf.core.test.model.TestInfo;
+import com.coherentsolutions.yaf.core.test.model.TestMethodDescriptor;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.ValueInstantiators;
+import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import org.springframework.objenesis.SpringObjenesis;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Builds object mapper which is able to write and read back yaf events.
+ * <p>
+ * Events are serialized field by field (getters often have side effects), objects without default constructors are
+ * instantiated with objenesis, {@link Method}s are stored as signatures, throwables and annotations use java
+ * serialization. Test class instances and driver holders could not be restored, so they are skipped.
+ */
+public class EventJournalMapper {
+
+    private EventJournalMapper() {
+    }
+
+    /**
+     * Build object mapper.
+     *
+     * @return the object mapper
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static ObjectMapper build() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        mapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
+        mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        mapper.configOverride(BaseYafTest.class).setIsIgnoredType(true);
+        mapper.configOverride(DriverHolder.class).setIsIgnoredType(true);
+        mapper.addMixIn(TestInfo.class, TestInfoMixin.class);
+        mapper.addMixIn(TestMethodDescriptor.class, TestMethodDescriptorMixin.class);
+        mapper.addMixIn(ClassInfo.class, ClassInfoMixin.class);
+        mapper.addMixIn(TestLogData.class, TestLogDataMixin.class);
+
+        SimpleModule module = new SimpleModule("yafJournal") {
+            @Override
+            public void setupModule(SetupContext context) {
+                super.setupModule(context);
+                context.addValueInstantiators(new ObjenesisValueInstantiators());
+            }
+        };
+        module.addSerializer(Method.class, new MethodSerializer());
+        module.addDeserializer(Method.class, new MethodDeserializer());
+        module.addSerializer(Throwable.class, (JsonSerializer) new JavaSerializationSerializer());
+        module.addDeserializer(Throwable.class, (JsonDeserializer) new JavaSerializationDeserializer());
+        module.addSerializer(Charset.class, ToStringSerializer.instance);
+        module.addDeserializer(Charset.class, new CharsetDeserializer());
+        mapper.registerModule(module);
+        return mapper;
+    }
+
+    abstract static class TestInfoMixin {
+        @JsonIgnore
+        Object runnerContext;
+        @JsonSerialize(using = JavaSerializationSerializer.class)
+        @JsonDeserialize(using = JavaSerializationDeserializer.class)
+        Object annotations;
+        @JsonSerialize(using = JavaSerializationSerializer.class)
+        @JsonDeserialize(using = JavaSerializationDeserializer.class)
+        Object yafTest;
+    }
+
+    abstract static class TestMethodDescriptorMixin {
+        @JsonSerialize(using = JavaSerializationSerializer.class)
+        @JsonDeserialize(using = JavaSerializationDeserializer.class)
+        Object annotations;
+        @JsonSerialize(using = JavaSerializationSerializer.class)
+        @JsonDeserialize(using = JavaSerializationDeserializer.class)
+        Object yafTest;
+    }
+
+    abstract static class ClassInfoMixin {
+        @JsonSerialize(using = JavaSerializationSerializer.class)
+        @JsonDeserialize(using = JavaSerializationDeserializer.class)
+        Object annotations;
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+    abstract static class TestLogDataMixin {
+    }
+
+    /**
+     * Writes {@link Serializable} value as binary (base64) java serialization form.
+     */
+    public static class JavaSerializationSerializer extends StdSerializer<Object> {
+
+        public JavaSerializationSerializer() {
+            super(Object.class);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+                oos.writeObject(value);
+            } catch (NotSerializableException e) {
+                // keep at least the message of the non-serializable throwable
+                if (value instanceof Throwable throwable) {
+                    serialize(new RuntimeException(throwable.getClass().getName() + ": " + throwable.getMessage()),
+                            gen, provider);
+                    return;
+                }
+                throw e;
+            }
+            gen.writeBinary(out.toByteArray());
+        }
+    }
+
+    /**
+     * Reads value written by {@link JavaSerializationSerializer}.
+     */
+    public static class JavaSerializationDeserializer extends StdDeserializer<Object> {
+
+        public JavaSerializationDeserializer() {
+            super(Object.class);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(p.getBinaryValue()))) {
+                return in.readObject();
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Unable to restore journaled object", e);
+            }
+        }
+    }
+
+    static class MethodSerializer extends StdSerializer<Method> {
+
+        MethodSerializer() {
+            super(Method.class);
+        }
+
+        @Override
+        public void serialize(Method value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(value.getDeclaringClass().getName() + "#" + value.getName() + "(" + Arrays
+                    .stream(value.getParameterTypes()).map(Class::getName).collect(Collectors.joining(",")) + ")");
+        }
+    }
+
+    static class MethodDeserializer extends StdDeserializer<Method> {
+
+        MethodDeserializer() {
+            super(Method.class);
+        }
+
+        @Override
+        public Method deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            String signature = p.getValueAsString();
+            int hash = signature.indexOf('#');
+            int paramsStart = signature.indexOf('(', hash);
+            try {
+                ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+                Class<?> cls = ClassUtils.forName(signature.substring(0, hash), classLoader);
+                String params = signature.substring(paramsStart + 1, signature.length() - 1);
+                Class<?>[] paramTypes = params.isEmpty() ? new Class[0] : Arrays.stream(params.split(","))
+                        .map(n -> ClassUtils.resolveClassName(n, classLoader)).toArray(Class[]::new);
+                return ReflectionUtils.findMethod(cls, signature.substring(hash + 1, paramsStart), paramTypes);
+            } catch (ClassNotFoundException | IllegalArgumentException e) {
+                throw new IOException("Unable to restore method " + signature, e);
+            }
+        }
+    }
+
+    static class CharsetDeserializer extends FromStringDeserializer<Charset> {
+
+        CharsetDeserializer() {
+            super(Charset.class);
+        }
+
+        @Override
+        protected Charset _deserialize(String value, DeserializationContext ctxt) {
+            return Charset.forName(value);
+        }
+    }
+
+    /**
+     * Allows to restore beans without default constructors (e.g. {@link TestInfo}).
+     */
+    static class ObjenesisValueInstantiators extends ValueInstantiators.Base {
+
+        private final SpringObjenesis objenesis = new SpringObjenesis();
+
+        @Override
+        public ValueInstantiator findValueInstantiator(DeserializationConfig config, BeanDescription beanDesc,
+                                                       ValueInstantiator defaultInstantiator) {
+            Class<?> cls = beanDesc.getBeanClass();
+            if (defaultInstantiator.canCreateUsingDefault() || defaultInstantiator.canCreateFromObjectWith()
+                    || defaultInstantiator.canCreateUsingDelegate() || cls.isInterface()
+                    || Modifier.isAbstract(cls.getModifiers())) {
+                return defaultInstantiator;
+            }
+            return new ValueInstantiator.Base(beanDesc.getType()) {
+                @Override
+                public boolean canCreateUsingDefault() {
+                    return true;
+                }
+
+                @Override
+                public Object createUsingDefault(DeserializationContext ctxt) {
+                    return objenesis.newInstance(cls);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.events.journal;
+
+
+import com.coherentsolutions.yaf.core.events.Event;
+import com.coherentsolutions.yaf.core.events.InstrumentedEventMulticaster;
+import com.coherentsolutions.yaf.core.events.global.ExecutionFinishEvent;
+import com.coherentsolutions.yaf.core.exception.GeneralYafException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Feeds journaled run back to {@link com.coherentsolutions.yaf.core.events.deferred.YafDeferredListener} listeners
+ * (reports, TMS integrations, ...), so heavy reporting could be done after the run or restored after JVM crash.
+ * Lifecycle-critical listeners are not invoked, cause there are no tests and drivers during replay.
+ */
+@Service
+@Slf4j
+public class EventJournalReplayService {
+
+    /**
+     * The Journal.
+     */
+    @Autowired
+    EventJournal journal;
+
+    /**
+     * The Multicaster.
+     */
+    @Autowired
+    InstrumentedEventMulticaster multicaster;
+
+    /**
+     * Replay journal of single run.
+     *
+     * @param runDir the run folder (sub folder of {@code yaf.events.journal.dir})
+     * @return amount of replayed events
+     * @throws GeneralYafException the general yaf exception
+     */
+    public int replay(Path runDir) throws GeneralYafException {
+        List<JournalRecord> records;
+        try {
+            records = JournalSegment.readAll(runDir);
+        } catch (IOException e) {
+            throw new GeneralYafException("Unable to read events journal " + runDir, e);
+        }
+        log.info("Replaying {} events from {}", records.size(), runDir);
+        journal.startReplay();
+        int replayed = 0;
+        try {
+            Event last = null;
+            for (JournalRecord record : records) {
+                Event event;
+                try {
+                    event = journal.readEvent(record);
+                } catch (Exception e) {
+                    log.error("Unable to read journaled {}: {}", record.getEventClass(), e.getMessage(), e);
+                    continue;
+                }
+                replayEvent(event);
+                last = event;
+                replayed++;
+            }
+            if (last != null && !(last instanceof ExecutionFinishEvent)) {
+                // run has crashed, finish it, so reports could be built
+                log.warn("Journal {} has no execution finish event, run is treated as crashed", runDir);
+                replayEvent(new ExecutionFinishEvent().setEndTime(LocalDateTime
+                        .ofInstant(Instant.ofEpochMilli(last.getTimestamp()), ZoneId.systemDefault())));
+            }
+        } finally {
+            journal.finishReplay();
+        }
+        return replayed;
+    }
+
+    private void replayEvent(Event event) {
+        multicaster.replayToDeferredListeners(new PayloadApplicationEvent<>(this, event));
+    }
+}
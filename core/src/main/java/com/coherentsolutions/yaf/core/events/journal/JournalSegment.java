@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.events.journal;
+
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Memory mapped append-only segment file. Each segment is owned by a single thread, so appends need no locking.
+ * <p>
+ * Record layout: {@code [int length][long seq][short classNameLength][className][payload]}, where length is written
+ * last and acts as a commit marker, so a record is either fully visible to the reader or not visible at all (even if
+ * the JVM dies in the middle of the write, data already written stays in the OS page cache).
+ */
+@Slf4j
+public class JournalSegment implements AutoCloseable {
+
+    /**
+     * The Segment file extension.
+     */
+    public static final String EXT = ".yej";
+
+    private static final int RECORD_HEADER = Integer.BYTES + Long.BYTES + Short.BYTES;
+
+    @Getter
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private volatile boolean closed;
+
+    /**
+     * Instantiates a new Journal segment.
+     *
+     * @param file the file
+     * @param size the size
+     * @throws IOException the io exception
+     */
+    public JournalSegment(Path file, int size) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    /**
+     * Required segment size for the record.
+     *
+     * @param eventClass the event class
+     * @param payload    the payload
+     * @return the int
+     */
+    public static int recordSize(String eventClass, byte[] payload) {
+        return RECORD_HEADER + eventClass.getBytes(StandardCharsets.UTF_8).length + payload.length;
+    }
+
+    /**
+     * Append record.
+     *
+     * @param seq        the seq
+     * @param eventClass the event class
+     * @param payload    the payload
+     * @return false if there is no space left in the segment or it is already closed
+     */
+    public boolean append(long seq, String eventClass, byte[] payload) {
+        if (closed) {
+            return false;
+        }
+        byte[] cls = eventClass.getBytes(StandardCharsets.UTF_8);
+        int length = Long.BYTES + Short.BYTES + cls.length + payload.length;
+        int start = buffer.position();
+        if (buffer.remaining() < Integer.BYTES + length) {
+            return false;
+        }
+        buffer.position(start + Integer.BYTES);
+        buffer.putLong(seq).putShort((short) cls.length).put(cls).put(payload);
+        buffer.putInt(start, length);
+        return true;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            log.error("Unable to close journal segment {}: {}", file, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read all committed records of the journal folder ordered by sequence number.
+     *
+     * @param dir the journal run folder
+     * @return the list
+     * @throws IOException the io exception
+     */
+    public static List<JournalRecord> readAll(Path dir) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(EXT)).toList()) {
+                records.addAll(read(file));
+            }
+        }
+        records.sort((a, b) -> Long.compare(a.getSeq(), b.getSeq()));
+        return records;
+    }
+
+    /**
+     * Read committed records of the single segment.
+     *
+     * @param file the file
+     * @return the list
+     * @throws IOException the io exception
+     */
+    public static List<JournalRecord> read(Path file) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (buffer.remaining() >= Integer.BYTES) {
+                int length = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    // end of committed data (or torn write of the crashed run)
+                    break;
+                }
+                long seq = buffer.getLong();
+                byte[] cls = new byte[buffer.getShort()];
+                buffer.get(cls);
+                byte[] payload = new byte[length - Long.BYTES - Short.BYTES - cls.length];
+                buffer.get(payload);
+                records.add(new JournalRecord(seq, new String(cls, StandardCharsets.UTF_8), payload));
+            }
+        }
+        return records;
+    }
+}
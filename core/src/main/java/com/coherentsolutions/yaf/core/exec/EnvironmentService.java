@@ -29,17 +29,20 @@ import com.coherentsolutions.yaf.core.exec.model.Environment;
 import com.coherentsolutions.yaf.core.exec.resolver.ConfigurationResolver;
 import com.coherentsolutions.yaf.core.utils.ServiceProviderUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The type Environment service.
  */
 @Service
 @Slf4j
-public class EnvironmentService {
+public class EnvironmentService implements InitializingBean {
 
     /**
      * The Stub env.
@@ -53,6 +56,21 @@ public class EnvironmentService {
     @Autowired
     List<ConfigurationResolver> configurationResolversList;
 
+    /**
+     * Resolvers by configuration type.
+     */
+    Map<String, ConfigurationResolver> resolversByType = new HashMap<>();
+
+    /**
+     * Params applied by resolvers per environment id, for the current thread.
+     */
+    private final ThreadLocal<Map<String, Map<String, Object>>> appliedConfigs = ThreadLocal.withInitial(HashMap::new);
+
+    @Override
+    public void afterPropertiesSet() {
+        configurationResolversList.forEach(r -> resolversByType.putIfAbsent(r.getType(), r));
+    }
+
     /**
      * Get proper test environment environment.
      *
@@ -71,17 +89,42 @@ public class EnvironmentService {
         }
         // process env configurations
         if (env.getConfigs() != null) {
-            env.getConfigs().entrySet().forEach(e -> {
-                ConfigurationResolver configurationResolver = configurationResolversList.stream()
-                        .filter(c -> c.getType().equals(e.getKey())).findFirst().orElse(null);
-                if (configurationResolver != null) {
-                    configurationResolver.applyConfiguration(e.getValue(), testExecutionContext);
-                } else {
-                    log.error("Unable to find resolver for type {} with value {}", e.getKey(), e.getValue());
+            Map<String, Object> applied = appliedConfigs.get().get(env.getId());
+            if (applied != null) {
+                // same env as in one of previous tests of the thread
+                testExecutionContext.addPrams(applied);
+            } else {
+                // remember everything resolvers write, even values equal to already present ones
+                testExecutionContext.startParamsRecording();
+                try {
+                    env.getConfigs().forEach((type, value) -> {
+                        ConfigurationResolver configurationResolver = resolversByType.get(type);
+                        if (configurationResolver == null) {
+                            log.error("Unable to find resolver for type {} with value {}", type, value);
+                        } else if (!configurationResolver.isPerTest()) {
+                            configurationResolver.applyConfiguration(value, testExecutionContext);
+                        }
+                    });
+                } finally {
+                    applied = testExecutionContext.stopParamsRecording();
+                }
+                appliedConfigs.get().put(env.getId(), applied);
+            }
+            env.getConfigs().forEach((type, value) -> {
+                ConfigurationResolver configurationResolver = resolversByType.get(type);
+                if (configurationResolver != null && configurationResolver.isPerTest()) {
+                    configurationResolver.applyConfiguration(value, testExecutionContext);
                 }
             });
         }
         return env;
     }
 
+    /**
+     * Forget params applied for the current thread, called together with test context params clearing.
+     */
+    public void clearAppliedConfigs() {
+        appliedConfigs.remove();
+    }
+
 }
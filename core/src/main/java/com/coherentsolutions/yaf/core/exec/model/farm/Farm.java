@@ -58,4 +58,8 @@ public class Farm {
      * The Supported types.
      */
     List<DeviceType> supportedTypes;
+    /**
+     * Max amount of concurrent sessions on the farm, 0 means unlimited.
+     */
+    int maxSessions;
 }
@@ -50,4 +50,15 @@ public abstract class ConfigurationResolver {
      * @param testExecutionContext the test execution context
      */
     public abstract void applyConfiguration(String value, TestExecutionContext testExecutionContext);
+
+    /**
+     * Whether configuration should be applied before each test, otherwise params it sets are memoized per thread and
+     * environment, and reused by next tests of the class. Memoized param objects are shared by these tests, so
+     * resolvers that put mutable objects (which tests could change) should be per test.
+     *
+     * @return the boolean
+     */
+    public boolean isPerTest() {
+        return false;
+    }
 }
@@ -51,4 +51,10 @@ public class UserConfigurationResolver extends ConfigurationResolver {
         System.out.println("Setting user " + value);
         testExecutionContext.addPram(Consts.CTX_USER, new DefaultYafUser().setUsername(value).setPassword(value));
     }
+
+    @Override
+    public boolean isPerTest() {
+        // user is mutable, so each test gets its own instance
+        return true;
+    }
 }
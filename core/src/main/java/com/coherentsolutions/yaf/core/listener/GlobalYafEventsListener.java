@@ -189,6 +189,7 @@ public class GlobalYafEventsListener extends YafListener {
     public void afterClass(ClassFinishEvent event) {
         TestExecutionContext testExecutionContext = getTestExecutionContext();
         testExecutionContext.clearContext();
+        environmentService.clearAppliedConfigs();
     }
 
 }
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.metrics;
+
+
+import com.coherentsolutions.yaf.core.consts.Consts;
+import com.coherentsolutions.yaf.core.events.global.ExecutionFinishEvent;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reports hit/miss statistics of yaf caches on execution finish.
+ */
+@Service
+@Slf4j
+public class CacheMetricsService {
+
+    @Value("${" + Consts.FRAMEWORK_NAME + ".metrics.cache.enabled:false}")
+    boolean enabled;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    YafMetricsService metricsService;
+
+    /**
+     * Publish cache statistics, goes before metrics reports.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    public void onExecutionFinish(ExecutionFinishEvent event) {
+        if (!enabled) {
+            return;
+        }
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> c) {
+                CacheStats stats = c.stats();
+                YafCacheMetric metric = new YafCacheMetric(name, stats.hitCount(), stats.missCount(),
+                        stats.evictionCount(), c.estimatedSize());
+                log.info("Cache {}: {} hits, {} misses ({}% hit rate), {} evictions, {} entries", name,
+                        metric.getHits(), metric.getMisses(), metric.getValue(), metric.getEvictions(),
+                        metric.getSize());
+                metricsService.addMetric(metric);
+            }
+        }
+    }
+}
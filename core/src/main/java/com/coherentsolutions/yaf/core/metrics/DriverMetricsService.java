@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.metrics;
+
+
+import com.coherentsolutions.yaf.core.consts.Consts;
+import com.coherentsolutions.yaf.core.drivers.manager.DriverResolver;
+import com.coherentsolutions.yaf.core.drivers.model.DriverHolder;
+import com.coherentsolutions.yaf.core.events.global.ExecutionFinishEvent;
+import com.coherentsolutions.yaf.core.exec.model.device.BrowserDevice;
+import com.coherentsolutions.yaf.core.exec.model.device.Device;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects drivers lifecycle timings (creation, time to the first use by a test, session lifetime, tests served per
+ * session and quit) per resolver, farm and browser, and publishes them to {@link YafMetricsService} on execution
+ * finish.
+ */
+@Service
+@Slf4j
+public class DriverMetricsService {
+
+    @Getter
+    @Value("${" + Consts.FRAMEWORK_NAME + ".metrics.drivers.enabled:false}")
+    boolean enabled;
+
+    @Autowired
+    YafMetricsService metricsService;
+
+    Map<Key, Stats> stats = new ConcurrentHashMap<>();
+
+    Map<DriverHolder, Session> sessions = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Driver is created.
+     *
+     * @param resolver the resolver
+     * @param holder   the holder
+     * @param nanos    creation time in nanoseconds
+     */
+    public void created(DriverResolver resolver, DriverHolder holder, long nanos) {
+        if (!enabled) {
+            return;
+        }
+        Key key = buildKey(resolver, holder.getDevice());
+        stats.computeIfAbsent(key, k -> new Stats()).creation.recordNanos(nanos);
+        sessions.put(holder, new Session(key));
+    }
+
+    /**
+     * Driver is used by the test (called once per test).
+     *
+     * @param holder the holder
+     */
+    public void used(DriverHolder holder) {
+        if (!enabled) {
+            return;
+        }
+        Session session = sessions.get(holder);
+        if (session != null && session.tests.getAndIncrement() == 0) {
+            long sinceInit = System.currentTimeMillis() - holder.getInitTime();
+            stats.get(session.key).firstUse.record(TimeUnit.MILLISECONDS.toMicros(sinceInit));
+        }
+    }
+
+    /**
+     * Driver is quit.
+     *
+     * @param holder the holder
+     * @param nanos  quit time in nanoseconds
+     */
+    public void quit(DriverHolder holder, long nanos) {
+        if (!enabled) {
+            return;
+        }
+        Session session = sessions.remove(holder);
+        if (session != null) {
+            Stats keyStats = stats.get(session.key);
+            keyStats.quit.recordNanos(nanos);
+            long lifetime = System.currentTimeMillis() - holder.getInitTime();
+            keyStats.lifetime.record(TimeUnit.MILLISECONDS.toMicros(lifetime));
+            keyStats.testsPerSession.record(session.tests.get());
+        }
+    }
+
+    /**
+     * Publish collected numbers, goes after drivers teardown but before metrics reports. Execution and suite drivers
+     * are quit before the event is sent, thread contexts are destroyed by the earlier listener.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    public void onExecutionFinish(ExecutionFinishEvent event) {
+        if (!enabled || stats.isEmpty()) {
+            return;
+        }
+        if (!sessions.isEmpty()) {
+            log.warn("{} drivers are not quit yet, their lifetime is not counted", sessions.size());
+        }
+        stats.forEach((key, s) -> {
+            YafDriverMetric metric = new YafDriverMetric(key.getResolver(), key.getFarm(), key.getBrowser(), s.creation,
+                    s.firstUse, s.lifetime, s.testsPerSession, s.quit);
+            log.info("Drivers {}/{}/{}: {} sessions, creation p50 {}ms p95 {}ms, quit p95 {}ms, {} tests per session",
+                    key.getResolver(), key.getFarm(), key.getBrowser(), metric.getValue(), metric.getCreationP50() / 1000,
+                    metric.getCreationP95() / 1000, metric.getQuitP95() / 1000, metric.getTestsPerSessionMean());
+            metricsService.addMetric(metric);
+        });
+        stats.clear();
+    }
+
+    private Key buildKey(DriverResolver resolver, Device device) {
+        String farm = device.getFarm() == null ? "local" : device.getFarm().getName();
+        String browser = device instanceof BrowserDevice browserDevice && browserDevice.getBrowser() != null
+                ? browserDevice.getBrowser().toString() : String.valueOf(device.getType());
+        return new Key(ClassUtils.getUserClass(resolver).getSimpleName(), farm, browser);
+    }
+
+    /**
+     * The type Key.
+     */
+    @lombok.Value
+    static class Key {
+        String resolver;
+        String farm;
+        String browser;
+    }
+
+    /**
+     * Timings of single key.
+     */
+    static class Stats {
+        final LatencyHistogram creation = new LatencyHistogram();
+        final LatencyHistogram firstUse = new LatencyHistogram();
+        final LatencyHistogram lifetime = new LatencyHistogram();
+        final LatencyHistogram testsPerSession = new LatencyHistogram();
+        final LatencyHistogram quit = new LatencyHistogram();
+    }
+
+    /**
+     * Opened session.
+     */
+    static class Session {
+        final Key key;
+        final AtomicInteger tests = new AtomicInteger();
+
+        Session(Key key) {
+            this.key = key;
+        }
+    }
+}
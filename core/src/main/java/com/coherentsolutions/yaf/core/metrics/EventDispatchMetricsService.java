@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.metrics;
+
+import com.coherentsolutions.yaf.core.consts.Consts;
+import com.coherentsolutions.yaf.core.events.Event;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Collects per event type / listener / thread invocation latencies, so slow listeners could be found.
+ */
+@Service
+@Slf4j
+public class EventDispatchMetricsService {
+
+    /**
+     * Listener name used for the whole {@link com.coherentsolutions.yaf.core.events.EventsService#sendEvent} call.
+     */
+    public static final String ALL_LISTENERS = "<all listeners>";
+
+    @Getter
+    @Value("${" + Consts.FRAMEWORK_NAME + ".metrics.events.enabled:false}")
+    boolean enabled;
+
+    @Autowired
+    YafMetricsService metricsService;
+
+    Map<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    Map<ApplicationListener<?>, String> listenerNames = new ConcurrentHashMap<>();
+
+    /**
+     * Checks whether invocation time for the event should be recorded, only yaf events are tracked.
+     *
+     * @param event the event
+     * @return the boolean
+     */
+    public boolean isTracked(ApplicationEvent event) {
+        return enabled && event instanceof PayloadApplicationEvent<?> payloadEvent
+                && payloadEvent.getPayload() instanceof Event;
+    }
+
+    /**
+     * Record listener invocation.
+     *
+     * @param listener the listener
+     * @param event    the event
+     * @param nanos    the time of invocation in nanoseconds
+     */
+    public void record(ApplicationListener<?> listener, ApplicationEvent event, long nanos) {
+        Event yafEvent = (Event) ((PayloadApplicationEvent<?>) event).getPayload();
+        record(yafEvent.getEventName(), getListenerName(listener), nanos);
+    }
+
+    /**
+     * Record listener invocation.
+     *
+     * @param eventType the event type
+     * @param listener  the listener name
+     * @param nanos     the time of invocation in nanoseconds
+     */
+    public void record(String eventType, String listener, long nanos) {
+        Key key = new Key(eventType, listener, Thread.currentThread().getName());
+        histograms.computeIfAbsent(key, k -> new LatencyHistogram()).recordNanos(nanos);
+    }
+
+    /**
+     * Gets short listener name (class and method for annotated listeners).
+     *
+     * @param listener the listener
+     * @return the listener name
+     */
+    public String getListenerName(ApplicationListener<?> listener) {
+        return listenerNames.computeIfAbsent(listener, l -> {
+            if (l instanceof ApplicationListenerMethodAdapter adapter) {
+                String id = adapter.getListenerId();
+                int paramsStart = id.indexOf('(');
+                String method = paramsStart > 0 ? id.substring(0, paramsStart) : id;
+                int classStart = method.lastIndexOf('.', method.lastIndexOf('.') - 1);
+                return method.substring(classStart + 1);
+            }
+            return l.getClass().getSimpleName();
+        });
+    }
+
+    /**
+     * Publish collected numbers to {@link YafMetricsService} and print them as a table sorted by total time.
+     */
+    public void report() {
+        if (!enabled || histograms.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Key, LatencyHistogram>> entries = histograms.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Key, LatencyHistogram> e) -> e.getValue().getTotal()).reversed())
+                .collect(Collectors.toList());
+        String format = "%-28s %-60s %-30s %8s %12s %10s %10s %10s %10s%n";
+        StringBuilder table = new StringBuilder("Event listeners timing (ms):\n");
+        table.append(String.format(format, "Event", "Listener", "Thread", "Count", "Total", "p50", "p95", "p99", "Max"));
+        entries.forEach(e -> {
+            Key key = e.getKey();
+            LatencyHistogram h = e.getValue();
+            metricsService.addMetric(new YafEventListenerMetric(key.getEventType(), key.getListener(), key.getThread(), h));
+            table.append(String.format(format, key.getEventType(), key.getListener(), key.getThread(), h.getCount(),
+                    ms(h.getTotal()), ms(h.getPercentile(50)), ms(h.getPercentile(95)), ms(h.getPercentile(99)),
+                    ms(h.getMax())));
+        });
+        log.info(table.toString());
+        histograms.clear();
+    }
+
+    private String ms(long micros) {
+        return String.format("%.3f", micros / 1000.0);
+    }
+
+    /**
+     * The type Key.
+     */
+    @lombok.Value
+    static class Key {
+        String eventType;
+        String listener;
+        String thread;
+    }
+}
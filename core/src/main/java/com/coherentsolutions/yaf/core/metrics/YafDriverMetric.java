@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.metrics;
+
+import lombok.Getter;
+
+/**
+ * Summary of drivers lifecycle for single resolver, farm and browser, value is amount of created sessions. All times
+ * are in microseconds.
+ */
+@Getter
+public class YafDriverMetric extends YafMetric<Long> {
+
+    public static final String TYPE = "yaf_driver_metric";
+
+    String resolver;
+    String farm;
+    String browser;
+    long creationP50;
+    long creationP95;
+    long creationMax;
+    long firstUseP50;
+    long firstUseP95;
+    long lifetimeP50;
+    long lifetimeMax;
+    long testsPerSessionMean;
+    long testsPerSessionMax;
+    long quitP50;
+    long quitP95;
+    long quitMax;
+
+    public YafDriverMetric(String resolver, String farm, String browser, LatencyHistogram creation,
+                           LatencyHistogram firstUse, LatencyHistogram lifetime, LatencyHistogram testsPerSession,
+                           LatencyHistogram quit) {
+        super(TYPE, creation.getCount());
+        this.resolver = resolver;
+        this.farm = farm;
+        this.browser = browser;
+        this.creationP50 = creation.getPercentile(50);
+        this.creationP95 = creation.getPercentile(95);
+        this.creationMax = creation.getMax();
+        this.firstUseP50 = firstUse.getPercentile(50);
+        this.firstUseP95 = firstUse.getPercentile(95);
+        this.lifetimeP50 = lifetime.getPercentile(50);
+        this.lifetimeMax = lifetime.getMax();
+        this.testsPerSessionMean = testsPerSession.getMean();
+        this.testsPerSessionMax = testsPerSession.getMax();
+        this.quitP50 = quit.getPercentile(50);
+        this.quitP95 = quit.getPercentile(95);
+        this.quitMax = quit.getMax();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.metrics;
+
+import lombok.Getter;
+
+/**
+ * Summary of listener invocations for single event type and thread, value is total time in microseconds.
+ */
+@Getter
+public class YafEventListenerMetric extends YafMetric<Long> {
+
+    public static final String TYPE = "yaf_event_listener_metric";
+
+    String eventType;
+    String listener;
+    String thread;
+    long count;
+    long p50;
+    long p95;
+    long p99;
+    long max;
+
+    public YafEventListenerMetric(String eventType, String listener, String thread, LatencyHistogram histogram) {
+        super(TYPE, histogram.getTotal());
+        this.eventType = eventType;
+        this.listener = listener;
+        this.thread = thread;
+        this.count = histogram.getCount();
+        this.p50 = histogram.getPercentile(50);
+        this.p95 = histogram.getPercentile(95);
+        this.p99 = histogram.getPercentile(99);
+        this.max = histogram.getMax();
+    }
+}
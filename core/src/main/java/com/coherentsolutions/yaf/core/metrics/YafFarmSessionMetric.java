@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.metrics;
+
+import lombok.Getter;
+
+/**
+ * Summary of farm sessions usage, value is max amount of concurrently opened sessions.
+ */
+@Getter
+public class YafFarmSessionMetric extends YafMetric<Integer> {
+
+    public static final String TYPE = "yaf_farm_session_metric";
+
+    String farm;
+    int maxSessions;
+    long sessions;
+    long waitP50;
+    long waitP95;
+    long waitMax;
+    double utilisation;
+
+    public YafFarmSessionMetric(String farm, int maxSessions, int peak, double utilisation, LatencyHistogram waits) {
+        super(TYPE, peak);
+        this.farm = farm;
+        this.maxSessions = maxSessions;
+        this.utilisation = utilisation;
+        this.sessions = waits.getCount();
+        this.waitP50 = waits.getPercentile(50);
+        this.waitP95 = waits.getPercentile(95);
+        this.waitMax = waits.getMax();
+    }
+}
@@ -26,16 +26,17 @@ package com.coherentsolutions.yaf.core.test.model;
 
 
 import com.coherentsolutions.yaf.core.test.YafTest;
-import com.coherentsolutions.yaf.core.utils.YafReflectionUtils;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * The type Test info.
@@ -43,6 +44,8 @@ import java.util.stream.Collectors;
 @Accessors(chain = true)
 public class TestInfo {
 
+    private static final AtomicLong INVOCATIONS = new AtomicLong();
+
     /**
      * The Test id.
      */
@@ -117,6 +120,12 @@ public class TestInfo {
     @Setter
     Object runnerContext;
 
+    /**
+     * The Descriptor.
+     */
+    @Getter
+    TestMethodDescriptor descriptor;
+
     /**
      * Instantiates a new Test info.
      *
@@ -125,34 +134,29 @@ public class TestInfo {
      * @param vendorTestNameResolver the vendor test name resolver
      */
     public TestInfo(Method method, Object[] methodArgs, Function<List<Annotation>, String>... vendorTestNameResolver) {
-        testId = UUID.randomUUID().toString();
-        testMethod = method;
-        testMethodName = method.getName();
-        testClass = method.getDeclaringClass();
-        annotations = YafReflectionUtils.getAnnotations(method);
-
-        yafTest = YafReflectionUtils.findAnnotation(annotations, YafTest.class);
-        if (yafTest != null && yafTest.name() != null) {
-            testName = yafTest.name();
-        } else {
-            for (Function<List<Annotation>, String> resolver : vendorTestNameResolver) {
-                testName = resolver.apply(annotations);
-                if (testName != null) {
-                    break;
-                }
-            }
-            if (testName != null) {
-                testName = method.getName();
-            }
-        }
+        this(new TestMethodDescriptor(method, vendorTestNameResolver), methodArgs);
+    }
+
+    /**
+     * Instantiates a new Test info as a view over precomputed method descriptor.
+     *
+     * @param descriptor the descriptor
+     * @param methodArgs the method args
+     */
+    public TestInfo(TestMethodDescriptor descriptor, Object[] methodArgs) {
+        this.descriptor = descriptor;
+        testId = descriptor.getMethodName() + "-" + INVOCATIONS.incrementAndGet();
+        testMethod = descriptor.getMethod();
+        testMethodName = descriptor.getMethodName();
+        testClass = descriptor.getTestClass();
+        annotations = descriptor.getAnnotations();
+        yafTest = descriptor.getYafTest();
+        testName = descriptor.getTestName();
         if (methodArgs != null && methodArgs.length > 0) {
-            testMethodParams = new HashMap<>();
-            List<String> methodParamsNames = Arrays.stream(method.getParameters()).map(p -> p.getName())
-                    .collect(Collectors.toList());
+            List<String> methodParamsNames = descriptor.getParameterNames();
+            testMethodParams = new HashMap<>(methodParamsNames.size() * 2);
             for (int i = 0; i < methodParamsNames.size(); i++) {
-                String paramName = methodParamsNames.get(i);
-                Object paramValue = methodArgs[i];
-                testMethodParams.put(paramName, paramValue);
+                testMethodParams.put(methodParamsNames.get(i), methodArgs[i]);
             }
         }
     }
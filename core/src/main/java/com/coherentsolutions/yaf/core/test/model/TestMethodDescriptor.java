@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.test.model;
+
+
+import com.coherentsolutions.yaf.core.test.YafTest;
+import com.coherentsolutions.yaf.core.utils.YafReflectionUtils;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable metadata of the test method (annotations, yaf test, name, parameters names), it is computed once per
+ * method and shared by all {@link TestInfo} of its invocations.
+ */
+@Getter
+public class TestMethodDescriptor {
+
+    /**
+     * The Method.
+     */
+    final Method method;
+    /**
+     * The Method name.
+     */
+    final String methodName;
+    /**
+     * The Test class.
+     */
+    final Class testClass;
+    /**
+     * The Annotations.
+     */
+    final List<Annotation> annotations;
+    /**
+     * The Yaf test.
+     */
+    final YafTest yafTest;
+    /**
+     * The Test name.
+     */
+    final String testName;
+    /**
+     * The Parameter names (unmodifiable).
+     */
+    final List<String> parameterNames;
+
+    /**
+     * Instantiates a new Test method descriptor.
+     *
+     * @param method                 the method
+     * @param vendorTestNameResolver the vendor test name resolver
+     */
+    @SafeVarargs
+    public TestMethodDescriptor(Method method, Function<List<Annotation>, String>... vendorTestNameResolver) {
+        this.method = method;
+        this.methodName = method.getName();
+        this.testClass = method.getDeclaringClass();
+        this.annotations = Collections.unmodifiableList(YafReflectionUtils.getAnnotations(method));
+        this.yafTest = YafReflectionUtils.findAnnotation(annotations, YafTest.class);
+
+        String name = null;
+        // annotation names default to empty strings, so blank means not set
+        if (yafTest != null && StringUtils.hasText(yafTest.name())) {
+            name = yafTest.name();
+        } else {
+            for (Function<List<Annotation>, String> resolver : vendorTestNameResolver) {
+                name = resolver.apply(annotations);
+                if (StringUtils.hasText(name)) {
+                    break;
+                }
+            }
+            if (!StringUtils.hasText(name)) {
+                name = methodName;
+            }
+        }
+        this.testName = name;
+
+        Parameter[] parameters = method.getParameters();
+        String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            names[i] = parameters[i].getName();
+        }
+        this.parameterNames = Collections.unmodifiableList(Arrays.asList(names));
+    }
+}
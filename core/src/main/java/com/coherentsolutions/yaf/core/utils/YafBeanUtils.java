@@ -37,6 +37,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ReflectionUtils;
@@ -45,7 +46,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The type Yaf bean utils.
@@ -72,6 +73,28 @@ public class YafBeanUtils {
     @Autowired
     ConditionMatchService matchService;
 
+    /**
+     * Proxy of itself, so internal calls of cached methods go through the cache.
+     */
+    @Lazy
+    @Autowired
+    YafBeanUtils self;
+
+    /**
+     * Bean candidates names per type.
+     */
+    private final Map<Class, String[]> beanNamesByType = new ConcurrentHashMap<>();
+
+    /**
+     * Whether all candidates of the type are scored by static matchers.
+     */
+    private final Map<Class, Boolean> staticRankingByType = new ConcurrentHashMap<>();
+
+    /**
+     * Resolved bean names per field type and environment id (only for types with static ranking).
+     */
+    private final Map<List<Object>, String> resolvedBeans = new ConcurrentHashMap<>();
+
     /**
      * Gets class yaf fields.
      *
@@ -97,14 +120,14 @@ public class YafBeanUtils {
      * @param supportedTypes the supported types
      * @return the class fields
      */
-    @Cacheable(value = "beanFields", key = "{#cls, #supportedTypes}")
+    @Cacheable(value = "beanFields")
     public Map<String, Field> getClassFields(Class cls, Class... supportedTypes) {
-        // TODO!! cache would not work in isChildMethod, also think about merging with yafFields!!!
+        // TODO think about merging with yafFields!!!
         Map<String, Field> fields = new HashMap<>();
         ReflectionUtils.doWithFields(cls, field -> {
             field.setAccessible(true);
             fields.put(field.getName(), field);
-        }, field -> isChild(field.getType(), supportedTypes));
+        }, field -> self.isChild(field.getType(), supportedTypes));
         return fields;
     }
 
@@ -126,7 +149,7 @@ public class YafBeanUtils {
      * @param parents the parents
      * @return the boolean
      */
-    @Cacheable(value = "classChildren", key = "{#child, #parents}")
+    @Cacheable(value = "classChildren")
     public boolean isChild(Class child, Class... parents) {
         return YafReflectionUtils.isChild(child, parents);
     }
@@ -150,7 +173,7 @@ public class YafBeanUtils {
      * @param annotationClass the annotation class
      * @return the annotations
      */
-    @Cacheable(value = "annotation", key = "{#annotationClass}")
+    @Cacheable(value = "annotations", key = "#annotationClass")
     public List<Annotation> getAnnotations(Class annotationClass) {
         return YafReflectionUtils.getAnnotations(annotationClass);
     }
@@ -196,24 +219,23 @@ public class YafBeanUtils {
     public <T extends Object> T getYafManagedBeanFromField(Field field, Class fieldType, Object obj, Class objType, List<Annotation> annotations) {
         TestExecutionContext testExecutionContext = applicationContext.getBean(TestExecutionContext.class);
 
-        Map<String, ?> beansOfType = applicationContext.getBeansOfType(fieldType, true, true);
-        T bean;
-        if (beansOfType.size() == 1) {
+        String[] beanNames = beanNamesByType.computeIfAbsent(fieldType,
+                t -> applicationContext.getBeanNamesForType(t, true, true));
+        String beanName;
+        if (beanNames.length == 1) {
             // only one possible impl
-            bean = (T) beansOfType.get(beansOfType.keySet().stream().findFirst().get());
+            beanName = beanNames[0];
         } else {
-            // find proper bean according env
+            // find proper bean according env, with static matchers ranking is the same for all tests of the env
             Environment env = testExecutionContext.getEnv();
-
-            bean = (T) beansOfType.values().parallelStream()
-                    .filter(x-> !YafReflectionUtils.isInstantiable(fieldType) || x.getClass().equals(fieldType))
-                    .collect(Collectors.toMap(p -> p,
-                            p -> matchService.matches(p.getClass(), env, testExecutionContext, this)))
-                    .entrySet().parallelStream().sorted(Collections.reverseOrder(Map.Entry.comparingByValue()))
-                    .filter(e -> e.getValue() >= 0)
-                    .map(Map.Entry::getKey).findFirst()
-                    .orElseThrow(() -> new EnvSetupYafException("Unable to init " + objType.getCanonicalName() + " due multiple variants!"));
+            if (env != null && isStaticRanking(fieldType, beanNames)) {
+                beanName = resolvedBeans.computeIfAbsent(List.of(fieldType, env.getId()),
+                        k -> rankBeans(beanNames, fieldType, objType, env, testExecutionContext));
+            } else {
+                beanName = rankBeans(beanNames, fieldType, objType, env, testExecutionContext);
+            }
         }
+        T bean = beanName != null ? (T) applicationContext.getBean(beanName) : null;
         if (bean != null) {
             // process bean
             List<Annotation> fieldAnnotations = new ArrayList<>();
@@ -232,6 +254,45 @@ public class YafBeanUtils {
         return bean;
     }
 
+    private boolean isStaticRanking(Class fieldType, String[] beanNames) {
+        return staticRankingByType.computeIfAbsent(fieldType, t -> Arrays.stream(beanNames)
+                .map(name -> applicationContext.getType(name)).filter(Objects::nonNull)
+                .allMatch(beanType -> matchService.isStatic(beanType, this)));
+    }
+
+    /**
+     * Ranks candidate beans by their condition score against the environment and returns the best one.
+     *
+     * @param beanNames            the candidate bean names
+     * @param fieldType            the field type
+     * @param objType              the obj type
+     * @param env                  the env
+     * @param testExecutionContext the test execution context
+     * @return the best matching bean name
+     */
+    protected String rankBeans(String[] beanNames, Class fieldType, Class objType, Environment env,
+                               TestExecutionContext testExecutionContext) {
+        boolean exactType = YafReflectionUtils.isInstantiable(fieldType);
+        String best = null;
+        int bestScore = -1;
+        for (String name : beanNames) {
+            Class beanType = applicationContext.getType(name);
+            if (beanType == null || (exactType && !beanType.equals(fieldType))) {
+                continue;
+            }
+            int score = matchService.matches(beanType, env, testExecutionContext, this);
+            if (score > bestScore) {
+                best = name;
+                bestScore = score;
+            }
+        }
+        if (best == null) {
+            throw new EnvSetupYafException("Unable to init "
+                    + (objType != null ? objType : fieldType).getCanonicalName() + " due multiple variants!");
+        }
+        return best;
+    }
+
     /**
      * Tec test execution context.
      *
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.events.journal;
+
+import com.coherentsolutions.yaf.core.enums.TestState;
+import com.coherentsolutions.yaf.core.events.test.TestFinishEvent;
+import com.coherentsolutions.yaf.core.test.YafTest;
+import com.coherentsolutions.yaf.core.test.model.TestInfo;
+import com.coherentsolutions.yaf.core.test.model.TestResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+/**
+ * The type Event journal mapper test.
+ */
+public class EventJournalMapperTest {
+
+    private final ObjectMapper mapper = EventJournalMapper.build();
+
+    /**
+     * Test finish event round trip.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testFinishEventRoundTrip() throws Exception {
+        Method method = SampleTests.class.getMethod("login", String.class);
+        TestInfo testInfo = new TestInfo(method, new Object[]{"bob"});
+        TestFinishEvent event = new TestFinishEvent().setTestInfo(testInfo)
+                .setTestResult(new TestResult().setState(TestState.FAIL).setError(new IllegalStateException("boom")));
+
+        byte[] payload = mapper.writeValueAsBytes(event);
+        TestFinishEvent restored = mapper.readValue(payload, TestFinishEvent.class);
+
+        TestInfo restoredInfo = restored.getTestInfo();
+        Assertions.assertEquals(testInfo.getTestId(), restoredInfo.getTestId());
+        Assertions.assertEquals(testInfo.getTestName(), restoredInfo.getTestName());
+        Assertions.assertEquals(method, restoredInfo.getTestMethod());
+        Assertions.assertEquals(SampleTests.class, restoredInfo.getTestClass());
+        Assertions.assertEquals(testInfo.getTestMethodParams(), restoredInfo.getTestMethodParams());
+        Assertions.assertArrayEquals(new String[]{"T-1"}, restoredInfo.getYafTest().tmsIds());
+
+        Assertions.assertNotNull(restoredInfo.getDescriptor());
+        Assertions.assertEquals(method, restoredInfo.getDescriptor().getMethod());
+        Assertions.assertEquals(testInfo.getDescriptor().getTestName(), restoredInfo.getDescriptor().getTestName());
+        Assertions.assertEquals(testInfo.getDescriptor().getAnnotations(), restoredInfo.getDescriptor().getAnnotations());
+        Assertions.assertEquals(testInfo.getDescriptor().getParameterNames(),
+                restoredInfo.getDescriptor().getParameterNames());
+
+        Assertions.assertEquals(TestState.FAIL, restored.getTestResult().getState());
+        Assertions.assertEquals("boom", restored.getTestResult().getError().getMessage());
+        Assertions.assertEquals(event.getTimestamp(), restored.getTimestamp());
+    }
+
+    /**
+     * The type Sample tests.
+     */
+    public static class SampleTests {
+
+        /**
+         * Login.
+         *
+         * @param user the user
+         */
+        @YafTest(name = "login", tmsIds = "T-1")
+        public void login(String user) {
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.events.journal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The type Journal segment test.
+ */
+public class JournalSegmentTest {
+
+    /**
+     * The Dir.
+     */
+    @TempDir
+    Path dir;
+
+    /**
+     * Write and read back.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void writeAndRead() throws IOException {
+        Path file = dir.resolve("main-1" + JournalSegment.EXT);
+        try (JournalSegment segment = new JournalSegment(file, 1024)) {
+            Assertions.assertTrue(segment.append(1, "a.First", bytes("{\"a\":1}")));
+            Assertions.assertTrue(segment.append(2, "b.Second", bytes("{}")));
+        }
+        List<JournalRecord> records = JournalSegment.read(file);
+        Assertions.assertEquals(2, records.size());
+        Assertions.assertEquals(1, records.get(0).getSeq());
+        Assertions.assertEquals("a.First", records.get(0).getEventClass());
+        Assertions.assertEquals("{\"a\":1}", new String(records.get(0).getPayload(), StandardCharsets.UTF_8));
+        Assertions.assertEquals("b.Second", records.get(1).getEventClass());
+        Assertions.assertEquals("{}", new String(records.get(1).getPayload(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Full or closed segment rejects records.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void fullOrClosedSegmentRejectsRecords() throws IOException {
+        byte[] payload = bytes("0123456789");
+        int size = JournalSegment.recordSize("x.Event", payload);
+        Path file = dir.resolve("main-2" + JournalSegment.EXT);
+        JournalSegment segment = new JournalSegment(file, size);
+        Assertions.assertTrue(segment.append(1, "x.Event", payload));
+        Assertions.assertFalse(segment.append(2, "x.Event", payload));
+        segment.close();
+        Assertions.assertFalse(segment.append(3, "x.Event", bytes("")));
+        Assertions.assertEquals(1, JournalSegment.read(file).size());
+    }
+
+    /**
+     * Records of all segments are ordered by sequence.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void readAllOrdersBySequence() throws IOException {
+        try (JournalSegment first = new JournalSegment(dir.resolve("t1-1" + JournalSegment.EXT), 512);
+                JournalSegment second = new JournalSegment(dir.resolve("t2-2" + JournalSegment.EXT), 512)) {
+            first.append(1, "e.A", bytes("1"));
+            second.append(2, "e.B", bytes("2"));
+            first.append(3, "e.A", bytes("3"));
+            second.append(4, "e.B", bytes("4"));
+        }
+        List<JournalRecord> records = JournalSegment.readAll(dir);
+        Assertions.assertEquals(List.of(1L, 2L, 3L, 4L), records.stream().map(JournalRecord::getSeq).toList());
+    }
+
+    /**
+     * Unused tail of the segment is not read as records.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void emptySegment() throws IOException {
+        Path file = dir.resolve("main-3" + JournalSegment.EXT);
+        new JournalSegment(file, 256).close();
+        Assertions.assertTrue(JournalSegment.read(file).isEmpty());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.exec;
+
+import com.coherentsolutions.yaf.core.consts.Consts;
+import com.coherentsolutions.yaf.core.context.test.BaseTestExecutionContext;
+import com.coherentsolutions.yaf.core.context.test.TestExecutionContext;
+import com.coherentsolutions.yaf.core.exec.model.Environment;
+import com.coherentsolutions.yaf.core.exec.resolver.ConfigurationResolver;
+import com.coherentsolutions.yaf.core.exec.resolver.LocaleConfigurationResolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The type Environment service test.
+ */
+public class EnvironmentServiceTest {
+
+    private EnvironmentService environmentService;
+    private CountingResolver countingResolver;
+    private TestExecutionContext testExecutionContext;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    public void setUp() {
+        countingResolver = new CountingResolver();
+        environmentService = new EnvironmentService();
+        environmentService.configurationResolversList = List.of(new LocaleConfigurationResolver(), countingResolver);
+        environmentService.afterPropertiesSet();
+        testExecutionContext = new BaseTestExecutionContext();
+    }
+
+    /**
+     * Configs are applied once per environment.
+     */
+    @Test
+    public void configsAreAppliedOncePerEnvironment() {
+        Environment env = env("chrome", "en", "a");
+        resolve(env);
+        resolve(env);
+        resolve(env);
+        Assertions.assertEquals(1, countingResolver.calls);
+        Assertions.assertEquals(new Locale("en"), testExecutionContext.getParam(Consts.CTX_LOCALE));
+        Assertions.assertEquals("a", testExecutionContext.getParam(CountingResolver.TYPE));
+    }
+
+    /**
+     * Environments sharing a config value both restore it.
+     */
+    @Test
+    public void environmentsSharingConfigValue() {
+        Environment first = env("chrome", "en", "a");
+        Environment second = env("firefox", "en", "b");
+        Environment other = env("edge", "fr", "c");
+
+        resolve(first);
+        // locale of the second env is the same as already applied one
+        resolve(second);
+        resolve(other);
+        Assertions.assertEquals(new Locale("fr"), testExecutionContext.getParam(Consts.CTX_LOCALE));
+
+        // memoized params of the second env still contain its locale
+        resolve(second);
+        Assertions.assertEquals(new Locale("en"), testExecutionContext.getParam(Consts.CTX_LOCALE));
+        Assertions.assertEquals("b", testExecutionContext.getParam(CountingResolver.TYPE));
+        Assertions.assertEquals(3, countingResolver.calls);
+    }
+
+    /**
+     * Per test resolvers are applied for each test.
+     */
+    @Test
+    public void perTestResolversAreNotMemoized() {
+        countingResolver.perTest = true;
+        Environment env = env("chrome", "en", "a");
+        resolve(env);
+        resolve(env);
+        Assertions.assertEquals(2, countingResolver.calls);
+    }
+
+    /**
+     * Configs are applied again after clearing.
+     */
+    @Test
+    public void configsAreAppliedAgainAfterClear() {
+        Environment env = env("chrome", "en", "a");
+        resolve(env);
+        testExecutionContext.clearContext();
+        environmentService.clearAppliedConfigs();
+        resolve(env);
+        Assertions.assertEquals(2, countingResolver.calls);
+        Assertions.assertEquals("a", testExecutionContext.getParam(CountingResolver.TYPE));
+    }
+
+    private void resolve(Environment env) {
+        environmentService.stubEnv = env;
+        Assertions.assertSame(env, environmentService.getProperTestEnvironment(null, testExecutionContext));
+    }
+
+    private Environment env(String name, String locale, String counter) {
+        Map<String, String> configs = new LinkedHashMap<>();
+        configs.put("locale", locale);
+        configs.put(CountingResolver.TYPE, counter);
+        return new Environment().setName(name).setConfigs(configs);
+    }
+
+    /**
+     * Resolver which counts its calls.
+     */
+    static class CountingResolver extends ConfigurationResolver {
+
+        static final String TYPE = "counter";
+
+        int calls;
+        boolean perTest;
+
+        @Override
+        public String getType() {
+            return TYPE;
+        }
+
+        @Override
+        public void applyConfiguration(String value, TestExecutionContext testExecutionContext) {
+            calls++;
+            testExecutionContext.addPram(TYPE, value);
+        }
+
+        @Override
+        public boolean isPerTest() {
+            return perTest;
+        }
+    }
+}
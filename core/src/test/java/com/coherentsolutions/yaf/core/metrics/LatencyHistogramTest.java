@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Latency histogram test.
+ */
+public class LatencyHistogramTest {
+
+    /**
+     * Empty histogram.
+     */
+    @Test
+    public void emptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertEquals(0, histogram.getCount());
+        Assertions.assertEquals(0, histogram.getMean());
+        Assertions.assertEquals(0, histogram.getPercentile(99));
+    }
+
+    /**
+     * Small values are exact.
+     */
+    @Test
+    public void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 8; i++) {
+            histogram.record(i);
+        }
+        Assertions.assertEquals(3, histogram.getPercentile(50));
+        Assertions.assertEquals(7, histogram.getPercentile(100));
+        Assertions.assertEquals(7, histogram.getMax());
+    }
+
+    /**
+     * Percentiles are within bucket error.
+     */
+    @Test
+    public void percentilesAreWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.record(i);
+        }
+        Assertions.assertEquals(10_000, histogram.getCount());
+        Assertions.assertEquals(5_000, histogram.getMean());
+        assertWithin(5_000, histogram.getPercentile(50));
+        assertWithin(9_500, histogram.getPercentile(95));
+        assertWithin(9_900, histogram.getPercentile(99));
+        Assertions.assertEquals(10_000, histogram.getPercentile(100));
+    }
+
+    /**
+     * Percentile never exceeds max.
+     */
+    @Test
+    public void percentileNeverExceedsMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_001);
+        Assertions.assertEquals(1_000_001, histogram.getPercentile(50));
+        Assertions.assertEquals(1_000_001, histogram.getMax());
+    }
+
+    /**
+     * Nanos are converted and negative values are clamped.
+     */
+    @Test
+    public void nanosAndNegativeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(3));
+        histogram.record(-5);
+        Assertions.assertEquals(2, histogram.getCount());
+        Assertions.assertEquals(3_000, histogram.getMax());
+        Assertions.assertEquals(0, histogram.getPercentile(50));
+    }
+
+    /**
+     * Bucket bounds are monotonic and cover their values.
+     */
+    @Test
+    public void bucketBounds() {
+        long previous = -1;
+        for (long value = 0; value < 1_000_000; value = value * 2 + 1) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            Assertions.assertTrue(upper >= value, "bucket of " + value + " ends at " + upper);
+            Assertions.assertTrue(upper > previous);
+            previous = upper;
+        }
+    }
+
+    private void assertWithin(long expected, long actual) {
+        // log-linear buckets with 8 sub-buckets give error below 12.5%
+        Assertions.assertTrue(actual >= expected && actual <= expected * 1.125,
+                "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.core.test.model;
+
+import com.coherentsolutions.yaf.core.test.YafTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * The type Test method descriptor test.
+ */
+public class TestMethodDescriptorTest {
+
+    /**
+     * Blank names fall back to method name.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void blankNamesFallBackToMethodName() throws Exception {
+        Method method = SampleTests.class.getMethod("unnamed", String.class);
+        TestMethodDescriptor descriptor = new TestMethodDescriptor(method, annotations -> "");
+        Assertions.assertEquals("unnamed", descriptor.getTestName());
+    }
+
+    /**
+     * Vendor name is used when yaf test name is blank.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void vendorNameUsedWhenYafNameIsBlank() throws Exception {
+        Method method = SampleTests.class.getMethod("unnamed", String.class);
+        TestMethodDescriptor descriptor = new TestMethodDescriptor(method, annotations -> "", annotations -> "vendor");
+        Assertions.assertEquals("vendor", descriptor.getTestName());
+    }
+
+    /**
+     * Parameter names are unmodifiable.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void parameterNamesAreUnmodifiable() throws Exception {
+        Method method = SampleTests.class.getMethod("unnamed", String.class);
+        List<String> names = new TestMethodDescriptor(method).getParameterNames();
+        Assertions.assertEquals(1, names.size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> names.set(0, "other"));
+    }
+
+    /**
+     * The type Sample tests.
+     */
+    public static class SampleTests {
+
+        /**
+         * Unnamed.
+         *
+         * @param user the user
+         */
+        @YafTest(tmsIds = "T-2")
+        public void unnamed(String user) {
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.index;
+
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Annotation processor that writes index of yaf components ({@value #INDEX_LOCATION}), so bean definitions could be
+ * configured at runtime without loading and inspecting their classes.
+ * <p>
+ * Each line is <code>class name=flags</code>, where flags are comma separated: <code>bean</code> (yaf bean),
+ * <code>lazy</code> (should be lazy initialized), <code>prototype</code> or <code>thread</code> (scope of components),
+ * <code>condition</code> (has yaf condition), <code>data</code> (yaf data). Spring components that are not yaf ones
+ * are also indexed with no flags.
+ */
+@SupportedAnnotationTypes("*")
+public class YafComponentIndexProcessor extends AbstractProcessor {
+
+    /**
+     * The constant INDEX_LOCATION, should be the same as in YafComponentIndex.
+     */
+    public static final String INDEX_LOCATION = "META-INF/yaf.components";
+
+    private static final String YAF_BEAN = "com.coherentsolutions.yaf.core.bean.YafBean";
+    private static final String YAF_COMPONENT = "com.coherentsolutions.yaf.core.pom.Component";
+    private static final String YAF_PROTOTYPE = "com.coherentsolutions.yaf.core.bean.YafPrototype";
+    private static final String YAF_CONDITION = "com.coherentsolutions.yaf.core.condition.YafCondition";
+    private static final String YAF_DATA = "com.coherentsolutions.yaf.data.YafData";
+    private static final String LAZY = "org.springframework.context.annotation.Lazy";
+    private static final String STEREOTYPE = "org.springframework.stereotype.Component";
+
+    private final Map<String, String> index = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            TypeMirror yafBean = getType(YAF_BEAN);
+            TypeMirror component = getType(YAF_COMPONENT);
+            for (Element element : roundEnv.getRootElements()) {
+                collect(element, yafBean, component);
+            }
+        }
+        return false;
+    }
+
+    private void collect(Element element, TypeMirror yafBean, TypeMirror component) {
+        if (element.getKind() != ElementKind.CLASS) {
+            return;
+        }
+        if (!element.getModifiers().contains(Modifier.ABSTRACT)) {
+            processType((TypeElement) element, yafBean, component);
+        }
+        for (Element enclosed : element.getEnclosedElements()) {
+            // spring scans static nested classes as well
+            if (enclosed.getModifiers().contains(Modifier.STATIC)) {
+                collect(enclosed, yafBean, component);
+            }
+        }
+    }
+
+    private void processType(TypeElement type, TypeMirror yafBean, TypeMirror component) {
+        List<String> flags = new ArrayList<>();
+        boolean isBean = isChild(type, yafBean);
+        List<? extends AnnotationMirror> allAnnotations = processingEnv.getElementUtils().getAllAnnotationMirrors(type);
+        if (isBean) {
+            flags.add("bean");
+            AnnotationMirror lazy = findAnnotation(allAnnotations, LAZY, new HashSet<>());
+            if (lazy == null || !Boolean.FALSE.equals(getValue(lazy, "value"))) {
+                flags.add("lazy");
+            }
+        }
+        if (isChild(type, component)) {
+            AnnotationMirror prototype = findAnnotation(allAnnotations, YAF_PROTOTYPE, new HashSet<>());
+            flags.add(prototype != null && !Boolean.TRUE.equals(getValue(prototype, "makeSingleton"))
+                    ? "prototype" : "thread");
+        }
+        if (findAnnotation(allAnnotations, YAF_CONDITION, new HashSet<>()) != null) {
+            flags.add("condition");
+        }
+        if (findAnnotation(allAnnotations, YAF_DATA, new HashSet<>()) != null) {
+            flags.add("data");
+        }
+        if (!flags.isEmpty() || isStereotype(allAnnotations, new HashSet<>())) {
+            index.put(processingEnv.getElementUtils().getBinaryName(type).toString(), String.join(",", flags));
+        }
+    }
+
+    private void writeIndex() {
+        if (index.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    INDEX_LOCATION);
+            try (Writer writer = file.openWriter()) {
+                for (Map.Entry<String, String> e : index.entrySet()) {
+                    writer.write(e.getKey() + "=" + e.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Unable to write yaf components index: " + e.getMessage());
+        }
+    }
+
+    private TypeMirror getType(String name) {
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(name);
+        return element != null ? processingEnv.getTypeUtils().erasure(element.asType()) : null;
+    }
+
+    private boolean isChild(TypeElement type, TypeMirror parent) {
+        return parent != null && processingEnv.getTypeUtils()
+                .isAssignable(processingEnv.getTypeUtils().erasure(type.asType()), parent);
+    }
+
+    private boolean isStereotype(List<? extends AnnotationMirror> annotations, Set<String> visited) {
+        for (AnnotationMirror annotation : annotations) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            String name = annotationType.getQualifiedName().toString();
+            if (name.equals(STEREOTYPE)) {
+                return true;
+            }
+            if (!name.startsWith("java.") && visited.add(name)
+                    && isStereotype(annotationType.getAnnotationMirrors(), visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same lookup as AnnotationUtils.getAnnotation used at runtime: present (including inherited) annotation first,
+     * then meta-annotations.
+     */
+    private AnnotationMirror findAnnotation(List<? extends AnnotationMirror> annotations, String name,
+                                            Set<String> visited) {
+        for (AnnotationMirror annotation : annotations) {
+            DeclaredType annotationType = annotation.getAnnotationType();
+            if (annotationType.getKind() != TypeKind.ERROR
+                    && ((TypeElement) annotationType.asElement()).getQualifiedName().contentEquals(name)) {
+                return annotation;
+            }
+        }
+        for (AnnotationMirror annotation : annotations) {
+            DeclaredType annotationType = annotation.getAnnotationType();
+            if (annotationType.getKind() == TypeKind.ERROR) {
+                continue;
+            }
+            TypeElement annotationElement = (TypeElement) annotationType.asElement();
+            String annotationName = annotationElement.getQualifiedName().toString();
+            if (!annotationName.startsWith("java.") && visited.add(annotationName)) {
+                AnnotationMirror meta = findAnnotation(annotationElement.getAnnotationMirrors(), name, visited);
+                if (meta != null) {
+                    return meta;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Object getValue(AnnotationMirror annotation, String attribute) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e
+                : annotation.getElementValues().entrySet()) {
+            if (e.getKey().getSimpleName().contentEquals(attribute)) {
+                return e.getValue().getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -62,6 +62,11 @@ public class DataFieldPostProcessor implements YafFieldProcessor {
         return beanUtils.getAnnotation(fieldType, YafData.class) != null;
     }
 
+    @Override
+    public boolean isClassLevel() {
+        return true;
+    }
+
     @Override
     public Object processField(Field field, Class fieldType, Object obj, Class objType, List<Annotation> annotations,
                                TestExecutionContext testExecutionContext) throws BeanInitYafException {
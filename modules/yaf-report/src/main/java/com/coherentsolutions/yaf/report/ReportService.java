@@ -27,6 +27,7 @@ package com.coherentsolutions.yaf.report;
 
 import com.coherentsolutions.yaf.core.consts.Consts;
 import com.coherentsolutions.yaf.core.events.EventsService;
+import com.coherentsolutions.yaf.core.events.deferred.YafDeferredListener;
 import com.coherentsolutions.yaf.core.events.global.ExecutionFinishEvent;
 import com.coherentsolutions.yaf.core.events.global.ExecutionStartEvent;
 import com.coherentsolutions.yaf.core.events.global.SuiteStartEvent;
@@ -53,6 +54,7 @@ import org.springframework.stereotype.Service;
 @Accessors(chain = true)
 @Slf4j
 @Service
+@YafDeferredListener
 @ConditionalOnProperty(name = Consts.FRAMEWORK_NAME + ".report.enabled", havingValue = "true")
 public class ReportService {
 
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.report.metrics;
+
+import com.coherentsolutions.yaf.core.consts.Consts;
+import com.coherentsolutions.yaf.core.events.global.ExecutionFinishEvent;
+import com.coherentsolutions.yaf.core.metrics.YafDriverMetric;
+import com.coherentsolutions.yaf.core.metrics.YafMetricsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Exports drivers lifecycle metrics (see {@link com.coherentsolutions.yaf.core.metrics.DriverMetricsService}) to
+ * driverReport.csv and driverReport.json.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = Consts.FRAMEWORK_NAME + ".metrics.report.drivers.enabled", havingValue = "true")
+public class YafDriverMetricsFileReport {
+
+    private static final String HEADER = "resolver,farm,browser,sessions,creationP50,creationP95,creationMax,"
+            + "firstUseP50,firstUseP95,lifetimeP50,lifetimeMax,testsPerSessionMean,testsPerSessionMax,quitP50,quitP95,quitMax";
+
+    @Autowired
+    YafMetricsService metricsService;
+
+    @EventListener
+    @Order()
+    public void executionFinishEvent(ExecutionFinishEvent executionFinishEvent) {
+        List<YafDriverMetric> metrics = metricsService.getMetrics().stream()
+                .filter(m -> m.getType().equals(YafDriverMetric.TYPE)).map(m -> (YafDriverMetric) m)
+                .collect(Collectors.toList());
+        if (metrics.isEmpty()) {
+            return;
+        }
+        String csv = Stream.concat(Stream.of(HEADER), metrics.stream().map(m -> Stream.of(m.getResolver(), m.getFarm(),
+                m.getBrowser(), m.getValue(), m.getCreationP50(), m.getCreationP95(), m.getCreationMax(),
+                m.getFirstUseP50(), m.getFirstUseP95(), m.getLifetimeP50(), m.getLifetimeMax(),
+                m.getTestsPerSessionMean(), m.getTestsPerSessionMax(), m.getQuitP50(), m.getQuitP95(),
+                m.getQuitMax()).map(String::valueOf).collect(Collectors.joining(","))))
+                .collect(Collectors.joining("\n"));
+        try {
+            Files.write(Path.of("driverReport.csv"), csv.getBytes(StandardCharsets.UTF_8));
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(Path.of("driverReport.json").toFile(), metrics);
+        } catch (IOException e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+}
@@ -91,6 +91,11 @@ public class SelenideShadowPagePostProcessing implements YafFieldPostProcessor {
         return ShadowWebPage.class.isAssignableFrom(fieldType);
     }
 
+    @Override
+    public boolean isClassLevel() {
+        return true;
+    }
+
     @Override
     public Object postProcessField(Field field, Class fieldType, Object fieldValue, Object obj, Class objType,
                                    List<Annotation> annotations, TestExecutionContext testExecutionContext) throws BeanInitYafException {
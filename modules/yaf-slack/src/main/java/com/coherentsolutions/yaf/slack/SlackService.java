@@ -25,6 +25,7 @@
 package com.coherentsolutions.yaf.slack;
 
 import com.coherentsolutions.yaf.core.consts.Consts;
+import com.coherentsolutions.yaf.core.events.deferred.YafDeferredListener;
 import com.coherentsolutions.yaf.report.domain.ExecutionReport;
 import com.coherentsolutions.yaf.report.events.ExecutionReportReadyEvent;
 import com.slack.api.Slack;
@@ -46,6 +47,7 @@ import java.io.IOException;
  * The type Slack service.
  */
 @Service
+@YafDeferredListener
 @Slf4j
 @ConditionalOnProperty(name = Consts.FRAMEWORK_NAME + ".slack.enabled", havingValue = "true")
 public class SlackService {
@@ -106,6 +106,17 @@ public abstract class YafTestNgTest extends BaseTestNgTest {
         log.debug("Starting suite {}", suiteInfo.getSuiteName());
     }
 
+    /**
+     * After suite, cached metadata of the suite is not needed anymore.
+     *
+     * @param testContext the test context
+     */
+    @SkipReport
+    @AfterSuite(alwaysRun = true)
+    public void afterSuite(ITestContext testContext) {
+        TestNgUtils.clearSuite(testContext.getSuite());
+    }
+
     /**
      * Before class.
      *
@@ -55,6 +55,7 @@ import com.coherentsolutions.yaf.core.exception.GeneralYafException;
 import com.coherentsolutions.yaf.core.test.model.ClassInfo;
 import com.coherentsolutions.yaf.core.test.model.SuiteInfo;
 import com.coherentsolutions.yaf.core.test.model.TestInfo;
+import com.coherentsolutions.yaf.core.test.model.TestMethodDescriptor;
 import com.coherentsolutions.yaf.core.test.model.TestResult;
 import com.coherentsolutions.yaf.core.utils.YafReflectionUtils;
 import com.coherentsolutions.yaf.testng.YafTransformer;
@@ -74,6 +75,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.coherentsolutions.yaf.core.consts.Consts.ENV_SETTING_PARAM;
@@ -83,13 +86,22 @@ import static com.coherentsolutions.yaf.core.consts.Consts.ENV_SETTING_PARAM;
  */
 public class TestNgUtils {
 
+    // metadata registry, suite/class/method info is computed once and shared by all tests
+    private static final Map<ITestContext, SuiteInfo> SUITES = new ConcurrentHashMap<>();
+    private static final Map<Class, ClassInfo> CLASSES = new ConcurrentHashMap<>();
+    private static final Map<Method, TestMethodDescriptor> METHODS = new ConcurrentHashMap<>();
+
     /**
-     * Build suite info suite info.
+     * Build suite info suite info, it is cached per test context.
      *
      * @param testContext the test context
      * @return the suite info
      */
     public static SuiteInfo buildSuiteInfo(ITestContext testContext) {
+        return SUITES.computeIfAbsent(testContext, TestNgUtils::createSuiteInfo);
+    }
+
+    private static SuiteInfo createSuiteInfo(ITestContext testContext) {
         SuiteInfo suiteInfo = new SuiteInfo();
         ISuite suite = testContext.getSuite();
         suiteInfo.setSuiteName(suite.getName());
@@ -100,15 +112,46 @@ public class TestNgUtils {
     }
 
     /**
-     * Build class info class info.
+     * Remove cached metadata of the finished suite (its test contexts, test classes and methods).
+     *
+     * @param suite the suite
+     */
+    public static void clearSuite(ISuite suite) {
+        SUITES.entrySet().removeIf(e -> {
+            if (e.getKey().getSuite() != suite) {
+                return false;
+            }
+            Set<Method> methods = e.getValue().getTestMethods();
+            if (methods != null) {
+                methods.forEach(m -> {
+                    METHODS.remove(m);
+                    CLASSES.remove(m.getDeclaringClass());
+                });
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Build class info class info, it is cached per class.
      *
      * @param testContext the test context
      * @param cls         the cls
      * @return the class info
      */
     public static ClassInfo buildClassInfo(ITestContext testContext, Class cls) {
-        return new ClassInfo(cls);
+        return CLASSES.computeIfAbsent(cls, ClassInfo::new);
+    }
 
+    /**
+     * Gets test method descriptor, it is cached per method.
+     *
+     * @param method the method
+     * @return the test method descriptor
+     */
+    public static TestMethodDescriptor getTestMethodDescriptor(Method method) {
+        return METHODS.computeIfAbsent(method, m -> new TestMethodDescriptor(m,
+                annotations -> ((Test) YafReflectionUtils.findAnnotation(annotations, Test.class)).testName()));
     }
 
     /**
@@ -120,8 +163,7 @@ public class TestNgUtils {
      * @return the test info
      */
     public static TestInfo buildTestInfo(ITestContext testContext, Method method, Object[] methodArgs) {
-        TestInfo testInfo = new TestInfo(method, methodArgs,
-                annotations -> ((Test) YafReflectionUtils.findAnnotation(annotations, Test.class)).testName());
+        TestInfo testInfo = new TestInfo(getTestMethodDescriptor(method), methodArgs);
         testInfo.setTestParams(testContext.getCurrentXmlTest().getLocalParameters());
         testInfo.setRunnerContext(testContext);
         testInfo.setSuiteInfo(buildSuiteInfo(testContext));
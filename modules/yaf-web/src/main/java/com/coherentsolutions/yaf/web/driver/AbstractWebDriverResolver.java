@@ -61,14 +61,18 @@ import com.coherentsolutions.yaf.web.processor.log.driver.DriverLogProcessor;
 import com.coherentsolutions.yaf.web.wait.driver.WaitProperties;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
 import org.openqa.selenium.ie.InternetExplorerDriver;
 import org.openqa.selenium.ie.InternetExplorerOptions;
 import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.remote.service.DriverService;
 import org.openqa.selenium.safari.SafariOptions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -104,6 +108,8 @@ public abstract class AbstractWebDriverResolver extends DriverResolver {
     @Autowired
     GeneralDriverProperties driverProperties;
 
+    private final ThreadLocal<DriverService> builtDriverService = new ThreadLocal<>();
+
 //    @Autowired(required = false)
 //    WebDriverListener webDriverListener;
 
@@ -113,14 +119,26 @@ public abstract class AbstractWebDriverResolver extends DriverResolver {
     }
 
     /**
-     * Build chrome driver chrome driver.
+     * Build chrome driver chrome driver. Delegates to {@link #buildChromeDriver(BrowserDevice, ChromeDriverService)}
+     * with default driver service, so the driver process could be killed on teardown.
      *
      * @param device the device
      * @return the chrome driver
      */
     protected ChromeDriver buildChromeDriver(BrowserDevice device) {
-        ChromeOptions chromeOptions = getChromeOptions(device);
-        return new ChromeDriver(chromeOptions);
+        return buildChromeDriver(device, ChromeDriverService.createDefaultService());
+    }
+
+    /**
+     * Build chrome driver with given driver service, the service is remembered for the driver holder.
+     *
+     * @param device  the device
+     * @param service the service
+     * @return the chrome driver
+     */
+    protected ChromeDriver buildChromeDriver(BrowserDevice device, ChromeDriverService service) {
+        builtDriverService.set(service);
+        return new ChromeDriver(service, getChromeOptions(device));
     }
 
     /**
@@ -145,14 +163,26 @@ public abstract class AbstractWebDriverResolver extends DriverResolver {
     }
 
     /**
-     * Build fire fox driver firefox driver.
+     * Build fire fox driver firefox driver. Delegates to {@link #buildFireFoxDriver(BrowserDevice, GeckoDriverService)}
+     * with default driver service, so the driver process could be killed on teardown.
      *
      * @param device the device
      * @return the firefox driver
      */
     protected FirefoxDriver buildFireFoxDriver(BrowserDevice device) {
-        FirefoxOptions firefoxOptions = getFirefoxOptions(device);
-        return new FirefoxDriver(firefoxOptions);
+        return buildFireFoxDriver(device, GeckoDriverService.createDefaultService());
+    }
+
+    /**
+     * Build fire fox driver with given driver service, the service is remembered for the driver holder.
+     *
+     * @param device  the device
+     * @param service the service
+     * @return the firefox driver
+     */
+    protected FirefoxDriver buildFireFoxDriver(BrowserDevice device, GeckoDriverService service) {
+        builtDriverService.set(service);
+        return new FirefoxDriver(service, getFirefoxOptions(device));
     }
 
     /**
@@ -198,14 +228,26 @@ public abstract class AbstractWebDriverResolver extends DriverResolver {
     }
 
     /**
-     * Build edge driver edge driver.
+     * Build edge driver edge driver. Delegates to {@link #buildEdgeDriver(BrowserDevice, EdgeDriverService)} with
+     * default driver service, so the driver process could be killed on teardown.
      *
      * @param device the device
      * @return the edge driver
      */
     protected EdgeDriver buildEdgeDriver(BrowserDevice device) {
-        EdgeOptions edgeOptions = getEdgeOptions(device);
-        return new EdgeDriver(edgeOptions);
+        return buildEdgeDriver(device, EdgeDriverService.createDefaultService());
+    }
+
+    /**
+     * Build edge driver with given driver service, the service is remembered for the driver holder.
+     *
+     * @param device  the device
+     * @param service the service
+     * @return the edge driver
+     */
+    protected EdgeDriver buildEdgeDriver(BrowserDevice device, EdgeDriverService service) {
+        builtDriverService.set(service);
+        return new EdgeDriver(service, getEdgeOptions(device));
     }
 
     /**
@@ -289,6 +331,18 @@ public abstract class AbstractWebDriverResolver extends DriverResolver {
         }
     }
 
+    /**
+     * Take driver service used by the last build*Driver call of the current thread. Returns null when overridden hook
+     * has created the driver without service, such driver is still quit, but could not be killed on teardown.
+     *
+     * @return the driver service
+     */
+    protected DriverService takeBuiltDriverService() {
+        DriverService service = builtDriverService.get();
+        builtDriverService.remove();
+        return service;
+    }
+
     /**
      * Gets driver holder.
      *
@@ -79,6 +79,8 @@ public class BaseWebDriverResolver extends AbstractWebDriverResolver {
     protected WebDriverHolder getDriverHolder(Device device) {
         BrowserDevice browserDevice = (BrowserDevice) device;
         WebDriver driver = null;
+        // drop service left by the failed build of this thread
+        takeBuiltDriverService();
         log.debug("Building web {} driver for env {}", browserDevice.getBrowser(), browserDevice.getName());
         switch (browserDevice.getBrowser()) {
             case CHROME: {
@@ -122,7 +124,10 @@ public class BaseWebDriverResolver extends AbstractWebDriverResolver {
         }
 
         log.debug("****** CREATE NEW WEB DRIVER ******** ");
-        return new WebDriverHolder(browserDevice, properties, driver);
+        WebDriverHolder holder = new WebDriverHolder(browserDevice, properties, driver);
+        // local driver process is kept, so hung driver could be killed on teardown
+        holder.setDriverService(takeBuiltDriverService());
+        return holder;
     }
 
 }
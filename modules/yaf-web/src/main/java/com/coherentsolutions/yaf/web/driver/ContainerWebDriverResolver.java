@@ -50,13 +50,24 @@ package com.coherentsolutions.yaf.web.driver;
  * #L%
  */
 
+import com.coherentsolutions.yaf.core.events.global.ExecutionStartEvent;
 import com.coherentsolutions.yaf.core.exec.model.device.Device;
+import com.coherentsolutions.yaf.core.utils.ServiceProviderUtils;
+import com.coherentsolutions.yaf.web.driver.container.BrowserContainerFarm;
 import com.coherentsolutions.yaf.web.driver.holder.ContainerDriverHolder;
 import com.coherentsolutions.yaf.web.driver.holder.WebDriverHolder;
 import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.testcontainers.containers.BrowserWebDriverContainer;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * The type Container web driver resolver.
  */
@@ -64,13 +75,40 @@ import org.testcontainers.containers.BrowserWebDriverContainer;
 @Slf4j
 public class ContainerWebDriverResolver extends AbstractWebDriverResolver {
 
+    private static final String FARM_NAME = "container";
+
+    /**
+     * The Container farm.
+     */
+    @Autowired
+    BrowserContainerFarm containerFarm;
+
     @Override
     public boolean canResolve(Device device) {
-        return super.canResolve(device) && farmName(device, "container");
+        return super.canResolve(device) && farmName(device, FARM_NAME);
+    }
+
+    /**
+     * Start browser containers for all container devices of the execution in parallel.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void startContainers(ExecutionStartEvent event) {
+        if (containerFarm.isEnabled()) {
+            Set<Device> devices = ServiceProviderUtils.getExecutionService().getConfiguration().getEnvironments()
+                    .values().stream().filter(env -> env.getDeviceList() != null)
+                    .flatMap(env -> env.getDeviceList().stream()).filter(this::canResolve)
+                    .collect(Collectors.toSet());
+            containerFarm.warmUp(devices, this::buildCapabilitiesFromEnv);
+        }
     }
 
     @Override
     protected WebDriverHolder getDriverHolder(Device device) {
+        if (containerFarm.isEnabled()) {
+            return getFarmDriverHolder(device);
+        }
         //TODO fix
         BrowserWebDriverContainer<?> c = new BrowserWebDriverContainer()
                 .withCapabilities(buildCapabilitiesFromEnv(device));
@@ -83,4 +121,30 @@ public class ContainerWebDriverResolver extends AbstractWebDriverResolver {
         driverHolder.setContainer(c);
         return driverHolder;
     }
+
+    /**
+     * Gets driver holder with new session in running container of the farm.
+     *
+     * @param device the device
+     * @return the web driver holder
+     */
+    protected WebDriverHolder getFarmDriverHolder(Device device) {
+        Capabilities capabilities = buildCapabilitiesFromEnv(device);
+        BrowserWebDriverContainer<?> container = containerFarm.lease(device, capabilities);
+        WebDriver driver;
+        try {
+            driver = new RemoteWebDriver(container.getSeleniumAddress(), capabilities);
+        } catch (Exception e) {
+            log.warn("Unable to open session in {}, retrying in new container: {}", container.getContainerName(),
+                    e.getMessage());
+            containerFarm.discard(device, container);
+            container = containerFarm.lease(device, capabilities);
+            driver = new RemoteWebDriver(container.getSeleniumAddress(), capabilities);
+        }
+        ContainerDriverHolder driverHolder = new ContainerDriverHolder(device, properties);
+        driverHolder.setDriver(driver);
+        driverHolder.setContainer(container);
+        driverHolder.setContainerFarm(containerFarm);
+        return driverHolder;
+    }
 }
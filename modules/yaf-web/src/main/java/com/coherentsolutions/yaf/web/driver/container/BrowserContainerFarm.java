@@ -0,0 +1,283 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.web.driver.container;
+
+
+import com.coherentsolutions.yaf.core.events.global.ExecutionFinishEvent;
+import com.coherentsolutions.yaf.core.exception.DriverYafException;
+import com.coherentsolutions.yaf.core.exec.ExecutionService;
+import com.coherentsolutions.yaf.core.exec.model.RunParallelSetup;
+import com.coherentsolutions.yaf.core.exec.model.device.Device;
+import com.coherentsolutions.yaf.core.utils.ServiceProviderUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.Capabilities;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.testcontainers.containers.BrowserWebDriverContainer;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Keeps running browser containers per device for the whole execution. Containers are started in parallel before
+ * tests, each driver gets a new session in a free container, container is restarted only when its health check fails.
+ */
+@Component
+@Slf4j
+public class BrowserContainerFarm implements DisposableBean {
+
+    /**
+     * The Properties.
+     */
+    @Autowired
+    ContainerFarmProperties properties;
+
+    /**
+     * Free containers by device.
+     */
+    Map<Device, BlockingQueue<BrowserWebDriverContainer<?>>> idle = new ConcurrentHashMap<>();
+
+    /**
+     * Amount of running (or starting) containers by device.
+     */
+    Map<Device, AtomicInteger> running = new ConcurrentHashMap<>();
+
+    /**
+     * All running containers.
+     */
+    Collection<BrowserWebDriverContainer<?>> containers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Is enabled boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isEnabled() {
+        return properties.isPooled();
+    }
+
+    /**
+     * Gets amount of containers per device.
+     *
+     * @return the size
+     */
+    public int getSize() {
+        if (properties.getSize() > 0) {
+            return properties.getSize();
+        }
+        ExecutionService executionService = ServiceProviderUtils.getExecutionService();
+        RunParallelSetup setup = executionService.getRunParallelSetup();
+        return Math.max(1, setup.getThreadsCount() * Math.max(1, setup.getSuiteThreadsCount()));
+    }
+
+    /**
+     * Start containers for devices in parallel and wait till they are started.
+     *
+     * @param devices      the devices
+     * @param capabilities capabilities builder
+     */
+    public void warmUp(Collection<Device> devices, Function<Device, Capabilities> capabilities) {
+        List<CompletableFuture<Void>> starts = new ArrayList<>();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("yaf-container-start-");
+        threadFactory.setDaemon(true);
+        ExecutorService executor = Executors.newCachedThreadPool(threadFactory);
+        try {
+            for (Device device : devices) {
+                while (reserve(device)) {
+                    starts.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            idle(device).offer(start(device, capabilities.apply(device)));
+                        } catch (Exception e) {
+                            running.get(device).decrementAndGet();
+                            log.error("Unable to start browser container for {}: {}", device.getName(), e.getMessage());
+                        }
+                    }, executor));
+                }
+            }
+            log.info("Starting {} browser containers", starts.size());
+            CompletableFuture.allOf(starts.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Lease free healthy container for device, new container is started if there are less than {@link #getSize()}.
+     *
+     * @param device       the device
+     * @param capabilities the capabilities
+     * @return the browser web driver container
+     * @throws DriverYafException the driver yaf exception
+     */
+    public BrowserWebDriverContainer<?> lease(Device device, Capabilities capabilities) throws DriverYafException {
+        BlockingQueue<BrowserWebDriverContainer<?>> queue = idle(device);
+        while (true) {
+            BrowserWebDriverContainer<?> container = queue.poll();
+            if (container == null) {
+                if (reserve(device)) {
+                    try {
+                        return start(device, capabilities);
+                    } catch (RuntimeException e) {
+                        running.get(device).decrementAndGet();
+                        throw new DriverYafException("Unable to start browser container for " + device.getName(), e);
+                    }
+                }
+                try {
+                    container = queue.poll(properties.getLeaseTimeout(), TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (container == null) {
+                    throw new DriverYafException("No free browser container for " + device.getName());
+                }
+            }
+            if (isHealthy(container)) {
+                return container;
+            }
+            log.warn("Browser container {} is not healthy, restarting it", container.getContainerName());
+            discard(device, container);
+        }
+    }
+
+    /**
+     * Return container to the farm.
+     *
+     * @param device    the device
+     * @param container the container
+     */
+    public void release(Device device, BrowserWebDriverContainer<?> container) {
+        if (containers.contains(container)) {
+            idle(device).offer(container);
+        }
+    }
+
+    /**
+     * Stop container, new one will be started on demand.
+     *
+     * @param device    the device
+     * @param container the container
+     */
+    public void discard(Device device, BrowserWebDriverContainer<?> container) {
+        if (containers.remove(container)) {
+            running.get(device).decrementAndGet();
+        }
+        stopQuietly(container);
+    }
+
+    /**
+     * Stop all containers.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void onExecutionFinish(ExecutionFinishEvent event) {
+        stopAll();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        stopAll();
+    }
+
+    /**
+     * Checks that container is running and selenium inside is ready.
+     *
+     * @param container the container
+     * @return the boolean
+     */
+    protected boolean isHealthy(BrowserWebDriverContainer<?> container) {
+        if (!container.isRunning()) {
+            return false;
+        }
+        try {
+            URL status = new URL(container.getSeleniumAddress() + "/status");
+            HttpURLConnection connection = (HttpURLConnection) status.openConnection();
+            int timeout = properties.getHealthCheckTimeout() * 1000;
+            connection.setConnectTimeout(timeout);
+            connection.setReadTimeout(timeout);
+            try {
+                return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (Exception e) {
+            log.debug("Health check of {} failed: {}", container.getContainerName(), e.getMessage());
+            return false;
+        }
+    }
+
+    private BrowserWebDriverContainer<?> start(Device device, Capabilities capabilities) {
+        BrowserWebDriverContainer<?> container = new BrowserWebDriverContainer<>().withCapabilities(capabilities);
+        container.start();
+        containers.add(container);
+        log.info("Browser container for {} is started, Selenium URL {}, VNC URL {}", device.getName(),
+                container.getSeleniumAddress(), container.getVncAddress());
+        return container;
+    }
+
+    private boolean reserve(Device device) {
+        AtomicInteger counter = running.computeIfAbsent(device, d -> new AtomicInteger());
+        int size = getSize();
+        while (true) {
+            int current = counter.get();
+            if (current >= size) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private BlockingQueue<BrowserWebDriverContainer<?>> idle(Device device) {
+        return idle.computeIfAbsent(device, d -> new LinkedBlockingQueue<>());
+    }
+
+    private void stopAll() {
+        List<BrowserWebDriverContainer<?>> toStop = new ArrayList<>(containers);
+        containers.clear();
+        idle.clear();
+        running.clear();
+        toStop.parallelStream().forEach(this::stopQuietly);
+    }
+
+    private void stopQuietly(BrowserWebDriverContainer<?> container) {
+        try {
+            container.stop();
+        } catch (Exception e) {
+            log.warn("Unable to stop browser container {}: {}", container.getContainerName(), e.getMessage());
+        }
+    }
+}
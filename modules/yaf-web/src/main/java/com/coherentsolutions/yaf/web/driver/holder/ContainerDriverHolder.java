@@ -52,6 +52,7 @@ package com.coherentsolutions.yaf.web.driver.holder;
 
 import com.coherentsolutions.yaf.core.drivers.properties.DriverProperties;
 import com.coherentsolutions.yaf.core.exec.model.device.Device;
+import com.coherentsolutions.yaf.web.driver.container.BrowserContainerFarm;
 import lombok.Getter;
 import lombok.Setter;
 import org.testcontainers.containers.BrowserWebDriverContainer;
@@ -68,6 +69,13 @@ public class ContainerDriverHolder extends WebDriverHolder {
     @Setter
     BrowserWebDriverContainer container;
 
+    /**
+     * The Container farm, set when container is shared via farm and should not be stopped on quit.
+     */
+    @Getter
+    @Setter
+    BrowserContainerFarm containerFarm;
+
     /**
      * Instantiates a new Container driver holder.
      *
@@ -81,7 +89,21 @@ public class ContainerDriverHolder extends WebDriverHolder {
     @Override
     public void quit() {
         super.quit();
-        container.stop();
+        if (containerFarm != null) {
+            containerFarm.release(device, container);
+        } else {
+            container.stop();
+        }
         // TODO exceptions?
     }
+
+    @Override
+    public void kill() {
+        super.kill();
+        if (containerFarm != null) {
+            containerFarm.discard(device, container);
+        } else {
+            container.stop();
+        }
+    }
 }
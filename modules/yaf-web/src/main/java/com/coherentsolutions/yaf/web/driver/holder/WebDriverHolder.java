@@ -27,14 +27,33 @@ package com.coherentsolutions.yaf.web.driver.holder;
 import com.coherentsolutions.yaf.core.drivers.model.DriverHolder;
 import com.coherentsolutions.yaf.core.drivers.properties.DriverProperties;
 import com.coherentsolutions.yaf.core.exec.model.device.Device;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.util.Iterator;
+import java.util.Map;
 
 /**
  * The type Web driver holder.
  */
 @Slf4j
 public class WebDriverHolder extends DriverHolder<WebDriver> {
+
+    private static final String BLANK_PAGE = "about:blank";
+    private static final String CLEAR_STORAGE_SCRIPT = "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+
+    /**
+     * The Driver service (for local drivers), used to kill driver process.
+     */
+    @Getter
+    @Setter
+    DriverService driverService;
+
     /**
      * Instantiates a new Web driver holder.
      *
@@ -67,4 +86,48 @@ public class WebDriverHolder extends DriverHolder<WebDriver> {
             log.error("Unable to release driver " + driver + ". Cause " + ex.getMessage());
         }
     }
+
+    @Override
+    public void kill() {
+        if (driverService != null) {
+            log.info("Killing driver process {}", driverService.getUrl());
+            driverService.stop();
+        }
+    }
+
+    @Override
+    public boolean reset() {
+        try {
+            // close all windows opened by test, besides the first one
+            Iterator<String> handles = driver.getWindowHandles().iterator();
+            String mainHandle = handles.next();
+            while (handles.hasNext()) {
+                driver.switchTo().window(handles.next()).close();
+            }
+            driver.switchTo().window(mainHandle);
+            if (driver instanceof ChromiumDriver chromiumDriver) {
+                chromiumDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            } else {
+                // only cookies of current domain are available here
+                driver.manage().deleteAllCookies();
+            }
+            if (driver instanceof JavascriptExecutor js) {
+                js.executeScript(CLEAR_STORAGE_SCRIPT);
+            }
+            driver.get(BLANK_PAGE);
+            return true;
+        } catch (Exception ex) {
+            log.warn("Unable to reset driver " + driver + ". Cause " + ex.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isAlive() {
+        try {
+            return driver != null && driver.getWindowHandle() != null;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
 }
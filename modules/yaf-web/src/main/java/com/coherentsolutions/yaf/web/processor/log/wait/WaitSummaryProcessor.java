@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.web.processor.log.wait;
+
+
+import com.coherentsolutions.yaf.core.context.test.TestExecutionContext;
+import com.coherentsolutions.yaf.core.events.test.TestFinishEvent;
+import com.coherentsolutions.yaf.core.log.TestLogData;
+import com.coherentsolutions.yaf.core.processor.TestFinishEventProcessor;
+import com.coherentsolutions.yaf.web.wait.driver.metrics.WaitMetricsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Attaches waits summary of the test, when wait metrics are enabled.
+ */
+@Component
+public class WaitSummaryProcessor implements TestFinishEventProcessor {
+
+    /**
+     * The Wait metrics service.
+     */
+    @Autowired
+    WaitMetricsService waitMetricsService;
+
+    @Override
+    public List<TestLogData> processFinishEvent(TestFinishEvent event, TestExecutionContext testExecutionContext) {
+        if (waitMetricsService.isEnabled()) {
+            List<String> lines = waitMetricsService.pollTestSummary();
+            if (!lines.isEmpty()) {
+                return List.of(new WaitSummaryLog(lines));
+            }
+        }
+        return null;
+    }
+}
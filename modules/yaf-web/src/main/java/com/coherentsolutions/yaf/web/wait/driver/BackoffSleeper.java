@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.web.wait.driver;
+
+import org.openqa.selenium.support.ui.Sleeper;
+
+import java.time.Duration;
+
+/**
+ * Sleeper which starts with a short pause and grows it exponentially up to the wait polling interval, so fast
+ * conditions are detected quickly and long waits still poll with the configured interval.
+ * <p>
+ * It keeps state, so a new instance should be used for every wait.
+ * </p>
+ */
+public class BackoffSleeper implements Sleeper {
+
+    private final double factor;
+    private long next;
+
+    /**
+     * Instantiates a new Backoff sleeper.
+     *
+     * @param first  the first pause in millis
+     * @param factor the pause growth factor
+     */
+    public BackoffSleeper(long first, double factor) {
+        this.next = Math.max(1, first);
+        this.factor = Math.max(1, factor);
+    }
+
+    @Override
+    public void sleep(Duration duration) throws InterruptedException {
+        Thread.sleep(nextPause(duration));
+    }
+
+    /**
+     * Next pause in millis, not longer than the polling interval.
+     *
+     * @param interval the polling interval
+     * @return the pause
+     */
+    long nextPause(Duration interval) {
+        long pause = Math.min(next, interval.toMillis());
+        next = (long) Math.ceil(next * factor);
+        return pause;
+    }
+}
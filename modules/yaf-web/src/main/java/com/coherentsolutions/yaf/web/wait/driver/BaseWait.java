@@ -25,6 +25,7 @@
 package com.coherentsolutions.yaf.web.wait.driver;
 
 import com.coherentsolutions.yaf.core.enums.DeviceType;
+import com.coherentsolutions.yaf.web.wait.driver.script.ScriptCondition;
 import lombok.Data;
 import lombok.experimental.Accessors;
 import org.openqa.selenium.By;
@@ -90,6 +91,10 @@ public abstract class BaseWait {
      * The Wait consts.
      */
     WaitConsts waitConsts;
+    /**
+     * Where the wait comes from (e.g. page object field), used by wait metrics.
+     */
+    String source;
 
     /**
      * Instantiates a new Base wait.
@@ -227,4 +232,13 @@ public abstract class BaseWait {
      */
     protected abstract <R> R wait(WebDriverWait wait);
 
+    /**
+     * Script condition used to evaluate several waits with a single script call.
+     *
+     * @return the script condition, or null if wait could be evaluated only by java
+     */
+    public ScriptCondition toScriptCondition() {
+        return null;
+    }
+
 }
@@ -29,6 +29,10 @@ import com.coherentsolutions.yaf.core.drivers.model.DriverHolder;
 import com.coherentsolutions.yaf.core.enums.DeviceType;
 import com.coherentsolutions.yaf.core.exception.DriverYafException;
 import com.coherentsolutions.yaf.core.utils.YafBeanUtils;
+import com.coherentsolutions.yaf.web.wait.driver.metrics.WaitMetricsService;
+import com.coherentsolutions.yaf.web.wait.driver.script.CombinedExpectedCondition;
+import com.coherentsolutions.yaf.web.wait.driver.script.ObservedExpectedCondition;
+import com.coherentsolutions.yaf.web.wait.driver.script.ScriptCondition;
 import com.coherentsolutions.yaf.web.wait.driver.waits.attribute.AttributeWait;
 import com.coherentsolutions.yaf.web.wait.driver.waits.clickable.ClickableWait;
 import com.coherentsolutions.yaf.web.wait.driver.waits.cookie.CookieWait;
@@ -38,6 +42,8 @@ import com.coherentsolutions.yaf.web.wait.driver.waits.text.TextWait;
 import com.coherentsolutions.yaf.web.wait.driver.waits.visibility.VisibilityWait;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -45,8 +51,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -69,6 +77,18 @@ public class DriverWaitService {
     @Autowired
     WaitProperties waitProperties;
 
+    /**
+     * The Calibration service.
+     */
+    @Autowired
+    WaitCalibrationService calibrationService;
+
+    /**
+     * The Wait metrics service.
+     */
+    @Autowired
+    WaitMetricsService waitMetricsService;
+
     /**
      * General wait r.
      *
@@ -78,16 +98,154 @@ public class DriverWaitService {
      */
     protected <R> R generalWait(BaseWait... waits) {
         if (waits.length > 1) {
-            // todo may be add concurrency?
+            // each wait with its own timeout, one after another (e.g. spinner shown, then hidden)
             for (BaseWait w : waits) {
                 waitSingleWait(w);
             }
-            return null; // todo what to return????
+            return null;
         } else {
             return waitSingleWait(waits[0]);
         }
     }
 
+    /**
+     * Waits until all of the waits are satisfied at the same time, timeout is the max of the waits timeouts.
+     *
+     * @param waits the waits
+     */
+    public void waitForAll(BaseWait... waits) {
+        try {
+            waitCombined(false, waits);
+        } catch (Exception ex) {
+            BaseWait bw = Arrays.stream(waits).filter(w -> w.shouldThrowAssertError(ex)).findAny().orElse(null);
+            if (bw != null) {
+                throw new AssertionError(ex.getMessage());
+            } else {
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Waits until any of the waits is satisfied.
+     *
+     * @param waits the waits
+     * @return the first satisfied wait
+     */
+    public BaseWait waitForAny(BaseWait... waits) {
+        try {
+            return waitCombined(true, waits);
+        } catch (Exception ex) {
+            BaseWait bw = Arrays.stream(waits).filter(w -> w.shouldThrowAssertError(ex)).findAny().orElse(null);
+            if (bw != null) {
+                throw new AssertionError(ex.getMessage());
+            } else {
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Waits for several waits at once, all of them or any of them should be satisfied.
+     * <p>
+     * When all waits could be expressed as script conditions for the same driver, they are evaluated by a single
+     * script call per poll, otherwise they are checked one by one.
+     * </p>
+     *
+     * @param anyOf whether any of waits is enough
+     * @param waits the waits
+     * @return the first satisfied wait for any-of semantic, null otherwise
+     */
+    protected BaseWait waitCombined(boolean anyOf, BaseWait... waits) {
+        List<ScriptCondition> conditions = Arrays.stream(waits).map(BaseWait::toScriptCondition).toList();
+        WebDriver[] drivers = Arrays.stream(waits).map(this::getDriver).toArray(WebDriver[]::new);
+        WebDriver driver = drivers[0];
+        boolean sameDriver = Arrays.stream(drivers).allMatch(d -> d == driver);
+        if (sameDriver && (waitProperties.isCombined() || waitProperties.isObserve())
+                && isScriptSupported(driver, conditions)) {
+            long start = System.nanoTime();
+            boolean timedOut = false;
+            try {
+                return waitCombinedByScriptWithRetries(driver, conditions, anyOf, waits);
+            } catch (TimeoutException ex) {
+                timedOut = true;
+                throw ex;
+            } finally {
+                long nanos = System.nanoTime() - start;
+                for (BaseWait w : waits) {
+                    waitMetricsService.waited(w, nanos, timedOut);
+                }
+            }
+        }
+        if (!anyOf) {
+            for (BaseWait w : waits) {
+                waitSingleWait(w);
+            }
+            return null;
+        }
+        WebDriverWait webDriverWait = createWebDriverWait(driver,
+                Arrays.stream(waits).mapToInt(this::getTimeOut).max().orElse(0),
+                Arrays.stream(waits).mapToInt(this::getInterval).min().orElse(0));
+        return webDriverWait.until(d -> {
+            for (int i = 0; i < waits.length; i++) {
+                try {
+                    waits[i].waitWithDriverWait(new WebDriverWait(drivers[i], Duration.ZERO));
+                    return waits[i];
+                } catch (TimeoutException ex) {
+                    // check next one
+                }
+            }
+            return null;
+        });
+    }
+
+    private BaseWait waitCombinedByScriptWithRetries(WebDriver driver, List<ScriptCondition> conditions,
+                                                     boolean anyOf, BaseWait... waits) {
+        try {
+            List<Boolean> statuses = waitByScript(driver, conditions, anyOf, waits);
+            return anyOf ? waits[statuses.indexOf(Boolean.TRUE)] : null;
+        } catch (Exception ex) {
+            BaseWait retry = Arrays.stream(waits).filter(w -> w.canRetry(ex)).findFirst().orElse(null);
+            if (retry != null) {
+                retry.getRetries().incrementAndGet();
+                return waitCombinedByScriptWithRetries(driver, conditions, anyOf, waits);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Checks whether conditions could be evaluated in browser by script.
+     *
+     * @param driver     the driver
+     * @param conditions the conditions
+     * @return the boolean
+     */
+    protected boolean isScriptSupported(WebDriver driver, List<ScriptCondition> conditions) {
+        return driver instanceof JavascriptExecutor && CombinedExpectedCondition.isSupported(conditions);
+    }
+
+    /**
+     * Waits for script conditions, by observing DOM mutations or by polling with a single script call.
+     *
+     * @param driver     the driver
+     * @param conditions the conditions
+     * @param anyOf      whether any of conditions is enough
+     * @param waits      the waits
+     * @return the condition statuses
+     */
+    protected List<Boolean> waitByScript(WebDriver driver, List<ScriptCondition> conditions, boolean anyOf,
+                                         BaseWait... waits) {
+        int timeOut = Arrays.stream(waits).mapToInt(this::getTimeOut).max().orElse(0);
+        WebDriverWait webDriverWait = createWebDriverWait(driver, timeOut,
+                Arrays.stream(waits).mapToInt(this::getInterval).min().orElse(0));
+        if (waitProperties.isObserve()) {
+            return webDriverWait.until(new ObservedExpectedCondition(conditions, anyOf,
+                    getTimeOutDuration(driver, timeOut), Duration.ofMillis(waitProperties.getObserveSlice())));
+        }
+        return webDriverWait.until(new CombinedExpectedCondition(conditions, anyOf));
+    }
+
     /**
      * Wait for r.
      *
@@ -132,14 +290,47 @@ public class DriverWaitService {
      * @return the r
      */
     protected <R> R waitSingleWait(BaseWait wait) {
-        WebDriverWait webDriverWait = buildWebDriverWait(wait);
+        long start = System.nanoTime();
+        boolean timedOut = false;
         try {
+            return waitSingleWaitWithRetries(wait);
+        } catch (TimeoutException ex) {
+            timedOut = true;
+            throw ex;
+        } finally {
+            waitMetricsService.waited(wait, System.nanoTime() - start, timedOut);
+        }
+    }
+
+    /**
+     * Wait single wait, retrying it on retry exceptions.
+     *
+     * @param <R>  the type parameter
+     * @param wait the wait
+     * @return the r
+     */
+    protected <R> R waitSingleWaitWithRetries(BaseWait wait) {
+        try {
+            if (waitProperties.isObserve()) {
+                List<ScriptCondition> conditions = Collections.singletonList(wait.toScriptCondition());
+                WebDriver driver = getDriver(wait);
+                if (isScriptSupported(driver, conditions)) {
+                    waitByScript(driver, conditions, false, wait);
+                    // condition is met, evaluate the wait itself once, so result is the same as of the polling wait
+                    try {
+                        return wait.waitWithDriverWait(new WebDriverWait(driver, Duration.ZERO));
+                    } catch (TimeoutException ex) {
+                        log.debug("Observed condition has changed before evaluation, polling it");
+                    }
+                }
+            }
+            WebDriverWait webDriverWait = buildWebDriverWait(wait);
             R r = wait.waitWithDriverWait(webDriverWait);
             return r;
         } catch (Exception ex) {
             if (wait.canRetry(ex)) {
                 wait.getRetries().incrementAndGet();
-                return waitSingleWait(wait);
+                return waitSingleWaitWithRetries(wait);
             } else {
                 throw ex;
             }
@@ -153,6 +344,16 @@ public class DriverWaitService {
      * @return the web driver wait
      */
     protected WebDriverWait buildWebDriverWait(BaseWait wait) {
+        return createWebDriverWait(getDriver(wait), getTimeOut(wait), getInterval(wait));
+    }
+
+    /**
+     * Gets driver for the wait.
+     *
+     * @param wait the wait
+     * @return the driver
+     */
+    protected WebDriver getDriver(BaseWait wait) {
         WebDriver driver = wait.getDriver();
         if (driver == null) {
             TestExecutionContext testExecutionContext = beanUtils.getBean(TestExecutionContext.class);
@@ -168,17 +369,43 @@ public class DriverWaitService {
                 throw new DriverYafException("Could not get driver for wait! " + this);
             }
         }
+        return driver;
+    }
+
+    private int getTimeOut(BaseWait wait) {
         WaitConsts waitConsts = wait.getWaitConsts();
         if (waitConsts == null || waitConsts.equals(WaitConsts.EMPTY)) {
-            return createWebDriverWait(driver, waitProperties.getExplicit().getTimeOut(), waitProperties.getExplicit().getInterval());
-        } else {
-            return createWebDriverWait(driver, waitConsts.getTimeOutInSeconds(), waitConsts.getPollIntervalInMillis());
+            return waitProperties.getExplicit().getTimeOut();
+        }
+        return waitConsts.getTimeOutInSeconds();
+    }
+
+    private int getInterval(BaseWait wait) {
+        WaitConsts waitConsts = wait.getWaitConsts();
+        if (waitConsts == null || waitConsts.equals(WaitConsts.EMPTY)) {
+            return waitProperties.getExplicit().getInterval();
         }
+        return waitConsts.getPollIntervalInMillis();
     }
 
     private WebDriverWait createWebDriverWait(WebDriver driver, int interval, int pooling) {
-        return new WebDriverWait(driver, Duration.ofSeconds((long) interval * waitProperties.getWaitMultiplication()),
-                Duration.ofMillis((long) pooling * waitProperties.getWaitMultiplication()));
+        WaitCalibrationService.Calibration calibration = calibrationService.getCalibration(driver);
+        Duration timeOut = getTimeOutDuration(driver, interval);
+        Duration sleep = Duration.ofMillis(Math.round(pooling * waitProperties.getWaitMultiplication()
+                * calibration.getScale()));
+        WaitProperties.AdaptiveProperties adaptive = waitProperties.getAdaptive();
+        if (adaptive.isBackoff()) {
+            // no sense to poll more often than a command round trip
+            long first = Math.max(adaptive.getInitialInterval(), calibration.getLatency());
+            return new WebDriverWait(driver, timeOut, sleep, Clock.systemDefaultZone(),
+                    new BackoffSleeper(first, adaptive.getBackoffFactor()));
+        }
+        return new WebDriverWait(driver, timeOut, sleep);
+    }
+
+    private Duration getTimeOutDuration(WebDriver driver, int timeOutInSeconds) {
+        double scale = calibrationService.getCalibration(driver).getScale();
+        return Duration.ofMillis(Math.round(timeOutInSeconds * 1000L * waitProperties.getWaitMultiplication() * scale));
     }
 
     /**
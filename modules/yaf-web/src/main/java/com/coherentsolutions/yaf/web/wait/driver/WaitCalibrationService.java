@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.web.wait.driver;
+
+import com.coherentsolutions.yaf.core.drivers.model.DriverHolder;
+import com.coherentsolutions.yaf.core.events.driver.DriverStartEvent;
+import com.coherentsolutions.yaf.core.events.driver.DriverStopEvent;
+import com.coherentsolutions.yaf.core.exec.model.device.Device;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures command round trip latency of the first web driver started on each farm and scales explicit wait timeouts
+ * and polling intervals of drivers from that farm accordingly.
+ */
+@Service
+@Slf4j
+public class WaitCalibrationService {
+
+    private static final Calibration DEFAULT = new Calibration("none", 0, 1);
+
+    /**
+     * The Wait properties.
+     */
+    @Autowired
+    WaitProperties waitProperties;
+
+    /**
+     * Calibrations by farm name.
+     */
+    Map<String, Calibration> farms = new ConcurrentHashMap<>();
+
+    /**
+     * Calibrations by driver.
+     */
+    Map<WebDriver, Calibration> drivers = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Calibrates driver farm, if it was not done yet.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void onDriverStart(DriverStartEvent event) {
+        WaitProperties.AdaptiveProperties adaptive = waitProperties.getAdaptive();
+        DriverHolder holder = event.getDriverHolder();
+        if (!adaptive.isCalibrate() || holder == null || !holder.isWeb()
+                || !(holder.getDriver() instanceof WebDriver driver)) {
+            return;
+        }
+        Device device = holder.getDevice();
+        String farm = device.getFarm() == null ? "local" : device.getFarm().getName();
+        drivers.put(driver, farms.computeIfAbsent(farm, f -> calibrate(f, driver, adaptive)));
+    }
+
+    /**
+     * Forgets stopped driver.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void onDriverStop(DriverStopEvent event) {
+        if (event.getDriverHolder() != null && event.getDriverHolder().getDriver() instanceof WebDriver driver) {
+            drivers.remove(driver);
+        }
+    }
+
+    /**
+     * Gets calibration of the driver farm.
+     *
+     * @param driver the driver
+     * @return the calibration, with scale 1 for not calibrated drivers
+     */
+    public Calibration getCalibration(WebDriver driver) {
+        Calibration calibration = drivers.get(driver);
+        return calibration == null ? DEFAULT : calibration;
+    }
+
+    private Calibration calibrate(String farm, WebDriver driver, WaitProperties.AdaptiveProperties adaptive) {
+        try {
+            long[] probes = new long[Math.max(1, adaptive.getCalibrationProbes())];
+            for (int i = 0; i < probes.length; i++) {
+                long start = System.nanoTime();
+                driver.getWindowHandle();
+                probes[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            }
+            Arrays.sort(probes);
+            long latency = probes[probes.length / 2];
+            double scale = Math.min(adaptive.getMaxScale(),
+                    Math.max(1, (double) latency / Math.max(1, adaptive.getReferenceLatency())));
+            log.info("Farm {} command latency is {} ms, wait timeouts scale {}", farm, latency, String.format("%.2f", scale));
+            return new Calibration(farm, latency, scale);
+        } catch (Exception ex) {
+            log.warn("Unable to calibrate waits for farm {}. Cause {}", farm, ex.getMessage());
+            return DEFAULT;
+        }
+    }
+
+    /**
+     * The type Calibration.
+     */
+    @Data
+    public static class Calibration {
+
+        /**
+         * The Farm.
+         */
+        final String farm;
+        /**
+         * Median command round trip in millis.
+         */
+        final long latency;
+        /**
+         * The Scale of timeouts and intervals.
+         */
+        final double scale;
+    }
+}
@@ -26,7 +26,6 @@ package com.coherentsolutions.yaf.web.wait.driver;
 
 import com.coherentsolutions.yaf.core.utils.YafBeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.lang.reflect.Field;
@@ -54,16 +53,16 @@ public class WaitClassUtils {
      * @param predicate the predicate
      * @return the wait for fields
      */
-    @Cacheable(cacheNames = "beanWaits", key = "{#bean.class, #predicate}")
     public Map<Object, WaitFor> getWaitForFields(Object bean, Predicate<WaitFor> predicate) {
-        List<Field> classYafFields = beanUtils.getClassYafFields(this.getClass());
+        // field values belong to the bean instance, so only class fields lookup is cached (by bean utils)
+        List<Field> classYafFields = beanUtils.getClassYafFields(bean.getClass());
         Map<Object, WaitFor> result = new HashMap<>();
         for (Field f : classYafFields) {
             WaitFor waitFor = beanUtils.getAnnotation(f, WaitFor.class);
-            if (predicate.test(waitFor)) {
+            if (waitFor != null && predicate.test(waitFor)) {
                 Object res = null;
                 try {
-                    res = f.get(this);
+                    res = f.get(bean);
                 } catch (IllegalAccessException e) {
                     e.printStackTrace();
                     // todo?
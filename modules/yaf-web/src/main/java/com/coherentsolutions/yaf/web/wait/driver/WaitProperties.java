@@ -50,6 +50,19 @@ public class WaitProperties extends ModuleProperties {
      * The Wait multiplication.
      */
     int waitMultiplication = 1;
+    /**
+     * Evaluate waits of waitForAll/waitForAny with a single script call per poll, when all of them support it (plain
+     * waitFor with several waits always waits for them one by one).
+     */
+    boolean combined = true;
+    /**
+     * Wait for script conditions by observing DOM mutations instead of polling.
+     */
+    boolean observe = false;
+    /**
+     * Max time in millis of a single observing script call, should be less than driver script timeout.
+     */
+    int observeSlice = 5000;
 
     /**
      * The Implicit.
@@ -59,6 +72,10 @@ public class WaitProperties extends ModuleProperties {
      * The Explicit.
      */
     ExplicitProperties explicit = new ExplicitProperties();
+    /**
+     * The Adaptive.
+     */
+    AdaptiveProperties adaptive = new AdaptiveProperties();
 
     /**
      * The type Implicit properties.
@@ -105,4 +122,42 @@ public class WaitProperties extends ModuleProperties {
         int interval = 200;
     }
 
+    /**
+     * The type Adaptive properties.
+     */
+    @Data
+    @Configuration
+    @ConfigurationProperties(prefix = Consts.FRAMEWORK_NAME + ".wait.adaptive")
+    public static class AdaptiveProperties {
+
+        /**
+         * Poll with exponential backoff up to the interval instead of the fixed interval.
+         */
+        boolean backoff = true;
+        /**
+         * The first pause in millis.
+         */
+        int initialInterval = 20;
+        /**
+         * The Backoff factor.
+         */
+        double backoffFactor = 2;
+        /**
+         * Measure command latency of each farm on the first driver start.
+         */
+        boolean calibrate = true;
+        /**
+         * The Calibration probes.
+         */
+        int calibrationProbes = 3;
+        /**
+         * Latency in millis, at which no scaling is applied.
+         */
+        int referenceLatency = 50;
+        /**
+         * The Max scale.
+         */
+        double maxScale = 4;
+    }
+
 }
@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.web.wait.driver.metrics;
+
+import com.coherentsolutions.yaf.core.consts.Consts;
+import com.coherentsolutions.yaf.core.events.global.ExecutionFinishEvent;
+import com.coherentsolutions.yaf.core.events.test.TestStartEvent;
+import com.coherentsolutions.yaf.core.metrics.LatencyHistogram;
+import com.coherentsolutions.yaf.core.metrics.YafMetricsService;
+import com.coherentsolutions.yaf.web.wait.driver.BaseWait;
+import com.coherentsolutions.yaf.web.wait.driver.DriverWaitService;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects wait timings per source (page object field or caller method), wait type and locator, reports the slowest
+ * waits on execution finish and keeps per test summary for the wait log.
+ */
+@Service
+@Slf4j
+public class WaitMetricsService {
+
+    private static final int MAX_TARGET_LENGTH = 200;
+
+    @Getter
+    @Value("${" + Consts.FRAMEWORK_NAME + ".metrics.wait.enabled:false}")
+    boolean enabled;
+
+    @Value("${" + Consts.FRAMEWORK_NAME + ".metrics.wait.top:20}")
+    int top;
+
+    @Autowired
+    YafMetricsService metricsService;
+
+    Map<Key, Stats> stats = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<Map<Key, TestStats>> testStats = ThreadLocal.withInitial(LinkedHashMap::new);
+
+    /**
+     * Wait is finished.
+     *
+     * @param wait     the wait
+     * @param nanos    wait time in nanoseconds
+     * @param timedOut whether wait is timed out
+     */
+    public void waited(BaseWait wait, long nanos, boolean timedOut) {
+        if (!enabled) {
+            return;
+        }
+        Key key = buildKey(wait);
+        Stats s = stats.computeIfAbsent(key, k -> new Stats());
+        s.time.recordNanos(nanos);
+        s.retries.add(wait.getRetries().get());
+        if (timedOut) {
+            s.timeouts.increment();
+        }
+        TestStats t = testStats.get().computeIfAbsent(key, k -> new TestStats());
+        t.count++;
+        t.total += TimeUnit.NANOSECONDS.toMillis(nanos);
+        t.max = Math.max(t.max, TimeUnit.NANOSECONDS.toMillis(nanos));
+        t.retries += wait.getRetries().get();
+        t.timeouts += timedOut ? 1 : 0;
+    }
+
+    /**
+     * Wait is skipped, because it was already satisfied.
+     *
+     * @param wait the wait
+     */
+    public void skipped(BaseWait wait) {
+        if (!enabled) {
+            return;
+        }
+        Key key = buildKey(wait);
+        stats.computeIfAbsent(key, k -> new Stats()).skipped.increment();
+        testStats.get().computeIfAbsent(key, k -> new TestStats()).skipped++;
+    }
+
+    /**
+     * Gets waits summary of the current test and clears it.
+     *
+     * @return the summary lines
+     */
+    public List<String> pollTestSummary() {
+        Map<Key, TestStats> current = testStats.get();
+        List<String> lines = new ArrayList<>();
+        current.entrySet().stream().sorted(Comparator.comparingLong(e -> -e.getValue().total)).forEach(e -> {
+            TestStats t = e.getValue();
+            lines.add(String.format("%6d ms  %3d waits  max %5d ms  %d retries  %d timeouts  %d skipped  %s", t.total,
+                    t.count, t.max, t.retries, t.timeouts, t.skipped, e.getKey()));
+        });
+        current.clear();
+        return lines;
+    }
+
+    /**
+     * Start collecting waits of the new test.
+     *
+     * @param event the event
+     */
+    @EventListener
+    public void onTestStart(TestStartEvent event) {
+        if (enabled) {
+            testStats.get().clear();
+        }
+    }
+
+    /**
+     * Publish collected numbers and log the slowest waits, goes before metrics reports.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    public void onExecutionFinish(ExecutionFinishEvent event) {
+        if (!enabled || stats.isEmpty()) {
+            return;
+        }
+        List<YafWaitMetric> metrics = new ArrayList<>();
+        stats.forEach((key, s) -> metrics.add(new YafWaitMetric(key.source, key.wait, key.target, s.time,
+                s.retries.sum(), s.timeouts.sum(), s.skipped.sum())));
+        metrics.sort(Comparator.comparingLong(YafWaitMetric::getValue).reversed());
+        StringBuilder report = new StringBuilder("Slowest waits:");
+        metrics.stream().limit(top).forEach(m -> report.append(String.format(
+                "%n%8d ms total  %5d waits  p50 %5d ms  p95 %5d ms  max %5d ms  %d retries  %d timeouts  %d skipped  %s %s %s",
+                m.getValue(), m.getCount(), m.getP50(), m.getP95(), m.getMax(), m.getRetries(), m.getTimeouts(),
+                m.getSkipped(), m.getSource(), m.getWait(), m.getTarget())));
+        log.info(report.toString());
+        metrics.forEach(metricsService::addMetric);
+        stats.clear();
+    }
+
+    private Key buildKey(BaseWait wait) {
+        String source = wait.getSource() != null ? wait.getSource() : findCaller();
+        // element references contain session and element ids, so waits on elements are keyed by source only
+        String target = wait.getLocators() != null && !wait.getLocators().isEmpty()
+                ? String.valueOf(wait.getLocators()) : "element";
+        if (target.length() > MAX_TARGET_LENGTH) {
+            target = target.substring(0, MAX_TARGET_LENGTH) + "...";
+        }
+        return new Key(source, wait.getClass().getSimpleName(), target);
+    }
+
+    private String findCaller() {
+        return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).walk(frames -> frames
+                .filter(f -> !isInternal(f.getDeclaringClass()))
+                .findFirst().map(f -> f.getDeclaringClass().getSimpleName() + "." + f.getMethodName())
+                .orElse("unknown"));
+    }
+
+    private boolean isInternal(Class<?> cls) {
+        String name = cls.getName();
+        return DriverWaitService.class.isAssignableFrom(cls) || name.startsWith("com.coherentsolutions.yaf.web.wait.")
+                || name.startsWith("java.") || name.startsWith("jdk.") || name.startsWith("org.springframework.")
+                || name.contains("$$");
+    }
+
+    /**
+     * The type Key.
+     */
+    @lombok.Value
+    static class Key {
+        String source;
+        String wait;
+        String target;
+
+        @Override
+        public String toString() {
+            return source + " " + wait + " " + target;
+        }
+    }
+
+    /**
+     * Timings of single key.
+     */
+    static class Stats {
+        final LatencyHistogram time = new LatencyHistogram();
+        final LongAdder retries = new LongAdder();
+        final LongAdder timeouts = new LongAdder();
+        final LongAdder skipped = new LongAdder();
+    }
+
+    /**
+     * Waits of single key in the current test.
+     */
+    static class TestStats {
+        long count;
+        long total;
+        long max;
+        long retries;
+        long timeouts;
+        long skipped;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.web.wait.driver.metrics;
+
+import com.coherentsolutions.yaf.core.metrics.LatencyHistogram;
+import com.coherentsolutions.yaf.core.metrics.YafMetric;
+import lombok.Getter;
+
+/**
+ * Summary of single wait (source, wait type and locator) for the whole execution, value is total wait time. All times
+ * are in milliseconds.
+ */
+@Getter
+public class YafWaitMetric extends YafMetric<Long> {
+
+    public static final String TYPE = "yaf_wait_metric";
+
+    String source;
+    String wait;
+    String target;
+    long count;
+    long p50;
+    long p95;
+    long max;
+    long retries;
+    long timeouts;
+    long skipped;
+
+    public YafWaitMetric(String source, String wait, String target, LatencyHistogram time, long retries,
+                         long timeouts, long skipped) {
+        super(TYPE, time.getTotal() / 1000);
+        this.source = source;
+        this.wait = wait;
+        this.target = target;
+        this.count = time.getCount();
+        this.p50 = time.getPercentile(50) / 1000;
+        this.p95 = time.getPercentile(95) / 1000;
+        this.max = time.getMax() / 1000;
+        this.retries = retries;
+        this.timeouts = timeouts;
+        this.skipped = skipped;
+    }
+}
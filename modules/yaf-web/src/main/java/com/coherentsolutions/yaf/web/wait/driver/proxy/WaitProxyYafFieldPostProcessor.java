@@ -28,23 +28,32 @@ import com.coherentsolutions.yaf.core.bean.field.YafFieldPostProcessor;
 import com.coherentsolutions.yaf.core.context.test.TestExecutionContext;
 import com.coherentsolutions.yaf.core.pom.Component;
 import com.coherentsolutions.yaf.core.utils.YafBeanUtils;
+import com.coherentsolutions.yaf.web.pom.RootedWebComponent;
 import com.coherentsolutions.yaf.web.wait.driver.BaseWait;
 import com.coherentsolutions.yaf.web.wait.driver.DriverWaitService;
 import com.coherentsolutions.yaf.web.wait.driver.WaitFor;
+import com.coherentsolutions.yaf.web.wait.driver.metrics.WaitMetricsService;
 import lombok.extern.slf4j.Slf4j;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The type Wait proxy yaf field post processor.
@@ -65,6 +74,45 @@ public class WaitProxyYafFieldPostProcessor implements YafFieldPostProcessor {
     @Autowired
     YafBeanUtils beanUtils;
 
+    /**
+     * The Wait metrics service.
+     */
+    @Autowired
+    WaitMetricsService waitMetricsService;
+
+    /**
+     * Wait factories by wait class.
+     */
+    Map<Class<?>, WaitFactory> waitFactories = new ConcurrentHashMap<>();
+
+    /**
+     * Gets wait factory, built once per wait class.
+     *
+     * @param waitClass the wait class
+     * @return the wait factory
+     */
+    protected WaitFactory getWaitFactory(Class<?> waitClass) {
+        return waitFactories.computeIfAbsent(waitClass, c -> {
+            try {
+                MethodHandle constructor = MethodHandles.publicLookup()
+                        .findConstructor(c, MethodType.methodType(void.class, WaitFor.class, Annotation.class, List.class))
+                        .asType(MethodType.methodType(BaseWait.class, WaitFor.class, Annotation.class, List.class));
+                return (waitFor, wait, elements) -> {
+                    try {
+                        return (BaseWait) constructor.invokeExact(waitFor, wait, elements);
+                    } catch (RuntimeException | Error ex) {
+                        throw ex;
+                    } catch (Throwable ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                };
+            } catch (NoSuchMethodException | IllegalAccessException ex) {
+                throw new IllegalArgumentException("Wait class " + c.getName()
+                        + " should have public constructor (WaitFor, Annotation, List)", ex);
+            }
+        });
+    }
+
     /**
      * Gets wait annotation.
      *
@@ -81,6 +129,11 @@ public class WaitProxyYafFieldPostProcessor implements YafFieldPostProcessor {
         return beanUtils.isChild(fieldType, Component.class) && getWaitAnnotation(field) != null;
     }
 
+    @Override
+    public boolean isClassLevel() {
+        return true;
+    }
+
     @Override
     public Object postProcessField(Field field, Class fieldType, Object fieldValue, Object obj, Class objType,
                                    List<Annotation> annotations, TestExecutionContext testExecutionContext) {
@@ -98,19 +151,48 @@ public class WaitProxyYafFieldPostProcessor implements YafFieldPostProcessor {
         ProxyFactory factory = new ProxyFactory(fieldValue);
         Component component = (Component) obj;
         WebDriver driver = (WebDriver) component.getDriverHolder().getDriver();
-        factory.addAdvice(new WebElementAdvice(waitForAnnotation, waitAnnotation, driver));
+        factory.addAdvice(new WebElementAdvice(waitForAnnotation, waitAnnotation, driver,
+                getWaitFactory(waitForAnnotation.waitClass()), objType.getSimpleName() + "." + field.getName()));
         return factory.getProxy();
     }
 
+    /**
+     * Creates wait instance for the field.
+     */
+    @FunctionalInterface
+    public interface WaitFactory {
+
+        /**
+         * Create base wait.
+         *
+         * @param waitFor  the wait for
+         * @param wait     the wait annotation
+         * @param elements the elements
+         * @return the base wait
+         */
+        BaseWait create(WaitFor waitFor, Annotation wait, List<WebElement> elements);
+    }
+
     /**
      * The type Web element advice.
      */
     public class WebElementAdvice implements MethodInterceptor {
 
+        /**
+         * Returns token of the current document, new document (after navigation or reload) gets a new token. Passed
+         * elements are serialized by driver, so stale ones fail the call.
+         */
+        static final String DOCUMENT_TOKEN_SCRIPT = "var d = document; if (!d.__yafToken) { "
+                + "d.__yafToken = Date.now().toString(36) + Math.random().toString(36).slice(2); } return d.__yafToken;";
+
         /**
          * The Already loaded.
          */
-        boolean alreadyLoaded;
+        volatile boolean alreadyLoaded;
+        /**
+         * Token of the document, in which the wait was satisfied.
+         */
+        volatile String documentToken;
         /**
          * The Wait.
          */
@@ -123,40 +205,95 @@ public class WaitProxyYafFieldPostProcessor implements YafFieldPostProcessor {
          * The Driver.
          */
         WebDriver driver;
+        /**
+         * The Wait factory.
+         */
+        WaitFactory waitFactory;
+        /**
+         * The Source (page object class and field).
+         */
+        String source;
 
         /**
          * Instantiates a new Web element advice.
          *
-         * @param waitFor the wait for
-         * @param wait    the wait
-         * @param driver  the driver
+         * @param waitFor     the wait for
+         * @param wait        the wait
+         * @param driver      the driver
+         * @param waitFactory the wait factory
+         * @param source      the source
          */
-        public WebElementAdvice(WaitFor waitFor, Annotation wait, WebDriver driver) {
+        public WebElementAdvice(WaitFor waitFor, Annotation wait, WebDriver driver, WaitFactory waitFactory,
+                                String source) {
             this.wait = wait;
             this.waitFor = waitFor;
             this.driver = driver;
+            this.waitFactory = waitFactory;
+            this.source = source;
         }
 
         @Override
         public Object invoke(MethodInvocation methodInvocation) throws Throwable {
-            if (!alreadyLoaded || waitFor.waitEveryTime()) {
+            if (methodInvocation.getMethod().getDeclaringClass().equals(Object.class)) {
+                return methodInvocation.proceed();
+            }
+            List<WebElement> elements = getElements(methodInvocation.getThis());
+            if (waitFor.waitEveryTime() || !isStillLoaded(elements)) {
                 // wait for element according condition
-                Object target = methodInvocation.getThis();
-                List<WebElement> elements;
-                if (target instanceof List) {
-                    elements = (List<WebElement>) target;
-                } else {
-                    WebElement element = (WebElement) target;
-                    elements = Collections.singletonList(element);
-                }
-                BaseWait baseWait = (BaseWait) waitFor.waitClass()
-                        .getConstructor(WaitFor.class, Annotation.class, List.class)
-                        .newInstance(waitFor, wait, elements);
+                BaseWait baseWait = waitFactory.create(waitFor, wait, elements);
+                baseWait.setSource(source);
                 waitService.waitFor(baseWait);
+                try {
+                    documentToken = getDocumentToken(elements);
+                    alreadyLoaded = true;
+                } catch (WebDriverException ex) {
+                    alreadyLoaded = false;
+                }
+            } else if (waitMetricsService.isEnabled()) {
+                waitMetricsService.skipped(waitFactory.create(waitFor, wait, elements).setSource(source));
             }
             return methodInvocation.proceed();
         }
 
+        @SuppressWarnings("unchecked")
+        private List<WebElement> getElements(Object target) {
+            if (target instanceof List) {
+                return (List<WebElement>) target;
+            } else if (target instanceof RootedWebComponent<?> component) {
+                return Collections.singletonList(component.getRoot());
+            }
+            return Collections.singletonList((WebElement) target);
+        }
+
+        /**
+         * Checks that wait was satisfied, elements are not stale and page was not changed since then.
+         *
+         * @param elements the elements
+         * @return the boolean
+         */
+        protected boolean isStillLoaded(List<WebElement> elements) {
+            if (!alreadyLoaded) {
+                return false;
+            }
+            if (documentToken == null) {
+                // driver could not run scripts, the wait is satisfied once
+                return true;
+            }
+            try {
+                return documentToken.equals(getDocumentToken(elements));
+            } catch (WebDriverException ex) {
+                log.debug("Element is stale, waiting again. Cause {}", ex.getMessage());
+                return false;
+            }
+        }
+
+        private String getDocumentToken(List<WebElement> elements) {
+            if (driver instanceof JavascriptExecutor js) {
+                return (String) js.executeScript(DOCUMENT_TOKEN_SCRIPT, elements);
+            }
+            return null;
+        }
+
     }
 
     // @Autowired(required = false)
@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.web.wait.driver.script;
+
+import lombok.Getter;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Expected condition which evaluates several {@link ScriptCondition} with a single script call per poll.
+ * <p>
+ * Evaluation stops at the first failed condition for all-of semantic and at the first matched one for any-of semantic,
+ * not evaluated conditions have null status.
+ * </p>
+ */
+public class CombinedExpectedCondition implements ExpectedCondition<List<Boolean>> {
+
+    /**
+     * Functions evaluating conditions in browser, shared by scripts of combined and observed conditions.
+     */
+    public static final String CONDITIONS = """
+            function find(l) {
+              var r = [];
+              if (l.using === 'css selector') {
+                r = Array.prototype.slice.call(document.querySelectorAll(l.value));
+              } else if (l.using === 'xpath') {
+                var s = document.evaluate(l.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                for (var i = 0; i < s.snapshotLength; i++) r.push(s.snapshotItem(i));
+              } else if (l.using === 'tag name') {
+                r = Array.prototype.slice.call(document.getElementsByTagName(l.value));
+              } else if (l.using === 'link text' || l.using === 'partial link text') {
+                r = Array.prototype.filter.call(document.getElementsByTagName('a'), function (a) {
+                  var t = (a.innerText || '').trim();
+                  return l.using === 'link text' ? t === l.value : t.indexOf(l.value) >= 0;
+                });
+              }
+              return r;
+            }
+            function visible(e) {
+              if (!e.isConnected) return false;
+              var s = window.getComputedStyle(e);
+              if (s.display === 'none' || s.visibility === 'hidden' || s.opacity === '0') return false;
+              return !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length);
+            }
+            function attr(e, n) {
+              var v = e[n];
+              if (v === undefined || v === null || typeof v === 'object' || typeof v === 'function') v = e.getAttribute(n);
+              if (v === null || v === '') v = window.getComputedStyle(e).getPropertyValue(n);
+              return v === null || v === undefined ? '' : String(v);
+            }
+            function matches(actual, s) {
+              return s.exact ? actual === s.value : actual.indexOf(s.value) >= 0;
+            }
+            function check(s, e) {
+              switch (s.type) {
+                case 'presence': return true;
+                case 'visible': return visible(e);
+                case 'clickable': return visible(e) && !e.disabled;
+                case 'attribute': return matches(attr(e, s.name), s);
+                case 'text': return matches((e.innerText || e.textContent || '').trim(), s);
+              }
+              return false;
+            }
+            function evaluate(s) {
+              var groups = s.elements ? s.elements.map(function (e) { return e && e.isConnected ? [e] : []; })
+                : s.locators.map(find);
+              var per = groups.map(function (g) {
+                if (s.type === 'presence' && s.negate) return g.length === 0;
+                return g.length > 0 && check(s, g[0]);
+              });
+              var ok = s.any ? per.some(Boolean) : per.every(Boolean);
+              return s.negate && s.type !== 'presence' ? !ok : ok;
+            }
+            function statuses(specs, anyOf) {
+              var res = [];
+              for (var i = 0; i < specs.length; i++) {
+                var ok = evaluate(specs[i]);
+                res.push(ok);
+                if (anyOf ? ok : !ok) break;
+              }
+              while (res.length < specs.length) res.push(null);
+              return res;
+            }
+            function done(res, anyOf) {
+              return anyOf ? res.indexOf(true) >= 0 : res.every(function (r) { return r === true; });
+            }
+            """;
+
+    /**
+     * The constant SCRIPT.
+     */
+    public static final String SCRIPT = CONDITIONS + "return statuses(arguments[0], arguments[1]);";
+
+    /**
+     * The Conditions.
+     */
+    @Getter
+    private final List<ScriptCondition> conditions;
+    /**
+     * The Any of.
+     */
+    @Getter
+    private final boolean anyOf;
+    /**
+     * The Arguments.
+     */
+    protected final List<Map<String, Object>> arguments = new ArrayList<>();
+    /**
+     * The Last statuses.
+     */
+    protected List<Boolean> lastStatuses;
+
+    /**
+     * Instantiates a new Combined expected condition.
+     *
+     * @param conditions the conditions
+     * @param anyOf      the any of
+     */
+    public CombinedExpectedCondition(List<ScriptCondition> conditions, boolean anyOf) {
+        this.conditions = conditions;
+        this.anyOf = anyOf;
+        for (ScriptCondition condition : conditions) {
+            Map<String, Object> arg = condition.toArgument();
+            if (arg == null) {
+                throw new IllegalArgumentException("Condition could not be evaluated by script " + condition);
+            }
+            arguments.add(arg);
+        }
+    }
+
+    /**
+     * Checks whether all conditions could be evaluated by script.
+     *
+     * @param conditions the conditions
+     * @return the boolean
+     */
+    public static boolean isSupported(List<ScriptCondition> conditions) {
+        return conditions.stream().allMatch(c -> c != null && c.toArgument() != null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Boolean> apply(WebDriver driver) {
+        return check((List<Boolean>) ((JavascriptExecutor) driver).executeScript(SCRIPT, arguments, anyOf));
+    }
+
+    /**
+     * Stores statuses returned by script and checks whether the condition is satisfied.
+     *
+     * @param statuses the statuses
+     * @return the statuses, or null if condition is not satisfied yet
+     */
+    protected List<Boolean> check(List<Boolean> statuses) {
+        lastStatuses = statuses;
+        if (statuses == null) {
+            return null;
+        }
+        boolean done = anyOf ? statuses.contains(Boolean.TRUE)
+                : statuses.size() == conditions.size() && statuses.stream().allMatch(Boolean.TRUE::equals);
+        return done ? statuses : null;
+    }
+
+    @Override
+    public String toString() {
+        return (anyOf ? "any of " : "all of ") + conditions + (lastStatuses != null ? ", last statuses " + lastStatuses : "");
+    }
+}
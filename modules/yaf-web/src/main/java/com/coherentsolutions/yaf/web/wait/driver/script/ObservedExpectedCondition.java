@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.web.wait.driver.script;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Expected condition which evaluates {@link ScriptCondition} in browser and, instead of polling, observes DOM mutations
+ * until conditions are satisfied.
+ * <p>
+ * Each call blocks in an async script up to a slice of the remaining timeout, so the wait returns as soon as the page
+ * changes. If async scripts could not be executed, it falls back to the polling of {@link CombinedExpectedCondition}.
+ * </p>
+ */
+@Slf4j
+public class ObservedExpectedCondition extends CombinedExpectedCondition {
+
+    /**
+     * The constant OBSERVER_SCRIPT.
+     */
+    public static final String OBSERVER_SCRIPT = CONDITIONS + """
+            var specs = arguments[0], anyOf = arguments[1], slice = arguments[2];
+            var callback = arguments[arguments.length - 1];
+            var res = statuses(specs, anyOf);
+            if (done(res, anyOf) || slice <= 0) {
+              callback(res);
+              return;
+            }
+            var finished = false, scheduled = false, observer, timer;
+            function finish(r) {
+              if (finished) return;
+              finished = true;
+              observer.disconnect();
+              clearTimeout(timer);
+              window.removeEventListener('transitionend', schedule, true);
+              window.removeEventListener('animationend', schedule, true);
+              callback(r);
+            }
+            function check() {
+              scheduled = false;
+              if (finished) return;
+              var r = statuses(specs, anyOf);
+              if (done(r, anyOf)) finish(r);
+            }
+            function schedule() {
+              if (!scheduled) {
+                scheduled = true;
+                setTimeout(check, 0);
+              }
+            }
+            observer = new MutationObserver(schedule);
+            observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});
+            window.addEventListener('transitionend', schedule, true);
+            window.addEventListener('animationend', schedule, true);
+            timer = setTimeout(function () { finish(statuses(specs, anyOf)); }, slice);
+            """;
+
+    private final long timeOut;
+    private final long maxSlice;
+    private long deadline;
+    private boolean polling;
+
+    /**
+     * Instantiates a new Observed expected condition.
+     *
+     * @param conditions the conditions
+     * @param anyOf      the any of
+     * @param timeOut    the whole wait time out
+     * @param maxSlice   max time of a single async script call, should be less than driver script timeout
+     */
+    public ObservedExpectedCondition(List<ScriptCondition> conditions, boolean anyOf, Duration timeOut, Duration maxSlice) {
+        super(conditions, anyOf);
+        this.timeOut = timeOut.toMillis();
+        this.maxSlice = maxSlice.toMillis();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Boolean> apply(WebDriver driver) {
+        if (polling) {
+            return super.apply(driver);
+        }
+        if (deadline == 0) {
+            deadline = System.currentTimeMillis() + timeOut;
+        }
+        long slice = Math.max(0, Math.min(maxSlice, deadline - System.currentTimeMillis()));
+        try {
+            return check((List<Boolean>) ((JavascriptExecutor) driver).executeAsyncScript(OBSERVER_SCRIPT, arguments,
+                    isAnyOf(), slice));
+        } catch (StaleElementReferenceException ex) {
+            throw ex;
+        } catch (ScriptTimeoutException ex) {
+            log.debug("Observer script timed out, slice {} ms is bigger than driver script timeout", slice);
+            return null;
+        } catch (WebDriverException ex) {
+            log.debug("Unable to observe DOM, switching to polling. Cause {}", ex.getMessage());
+            polling = true;
+            return super.apply(driver);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "observed " + super.toString();
+    }
+}
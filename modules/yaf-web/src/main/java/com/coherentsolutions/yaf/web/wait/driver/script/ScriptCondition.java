@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.web.wait.driver.script;
+
+import com.coherentsolutions.yaf.web.utils.by.YafBy;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Description of a wait condition which could be evaluated in browser by {@link CombinedExpectedCondition}.
+ * <p>
+ * Every locator (or element) is checked by its first matching element, the same way as java conditions do.
+ * </p>
+ */
+@Data
+@Accessors(chain = true)
+public class ScriptCondition {
+
+    /**
+     * The constant PRESENCE.
+     */
+    public static final String PRESENCE = "presence";
+    /**
+     * The constant VISIBLE.
+     */
+    public static final String VISIBLE = "visible";
+    /**
+     * The constant CLICKABLE.
+     */
+    public static final String CLICKABLE = "clickable";
+    /**
+     * The constant ATTRIBUTE.
+     */
+    public static final String ATTRIBUTE = "attribute";
+    /**
+     * The constant TEXT.
+     */
+    public static final String TEXT = "text";
+
+    /**
+     * The Type.
+     */
+    String type;
+    /**
+     * The Negate.
+     */
+    boolean negate;
+    /**
+     * Whether any locator match is enough, otherwise all of them should match.
+     */
+    boolean any;
+    /**
+     * The Locators.
+     */
+    List<By> locators;
+    /**
+     * The Elements.
+     */
+    List<WebElement> elements;
+    /**
+     * Attribute name.
+     */
+    String name;
+    /**
+     * Expected attribute or text value.
+     */
+    String value;
+    /**
+     * The Exact.
+     */
+    boolean exact = true;
+
+    /**
+     * Instantiates a new Script condition.
+     *
+     * @param type     the type
+     * @param locators the locators
+     * @param elements the elements
+     */
+    public ScriptCondition(String type, List<By> locators, List<WebElement> elements) {
+        this.type = type;
+        this.locators = locators;
+        this.elements = elements;
+    }
+
+    /**
+     * Converts condition to script argument.
+     *
+     * @return the map, or null if some locator could not be evaluated by script
+     */
+    public Map<String, Object> toArgument() {
+        Map<String, Object> arg = new HashMap<>();
+        arg.put("type", type);
+        arg.put("negate", negate);
+        arg.put("any", any);
+        arg.put("name", name);
+        arg.put("value", value);
+        arg.put("exact", exact);
+        if (elements != null && !elements.isEmpty()) {
+            arg.put("elements", elements);
+        } else if (locators != null && !locators.isEmpty()) {
+            List<Map<String, Object>> list = new ArrayList<>();
+            for (By by : locators) {
+                Map<String, Object> locator = toLocator(by);
+                if (locator == null) {
+                    return null;
+                }
+                list.add(locator);
+            }
+            arg.put("locators", list);
+        } else {
+            return null;
+        }
+        return arg;
+    }
+
+    private Map<String, Object> toLocator(By by) {
+        if (by instanceof YafBy yafBy) {
+            by = yafBy.getBy();
+        }
+        if (by instanceof By.Remotable remotable) {
+            By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+            Map<String, Object> locator = new HashMap<>();
+            locator.put("using", parameters.using());
+            locator.put("value", parameters.value());
+            return locator;
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return (negate ? "not " : "") + type + (name != null ? " " + name : "") + (value != null ? " '" + value + "'" : "")
+                + " of " + (elements != null && !elements.isEmpty() ? elements : locators);
+    }
+}
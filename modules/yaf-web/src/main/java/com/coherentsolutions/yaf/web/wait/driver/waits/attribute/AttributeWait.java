@@ -28,6 +28,7 @@ import com.coherentsolutions.yaf.web.wait.driver.BaseWait;
 import com.coherentsolutions.yaf.web.wait.driver.CustomExpectedConditions;
 import com.coherentsolutions.yaf.web.wait.driver.WaitConsts;
 import com.coherentsolutions.yaf.web.wait.driver.WaitFor;
+import com.coherentsolutions.yaf.web.wait.driver.script.ScriptCondition;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.openqa.selenium.By;
@@ -147,5 +148,14 @@ public class AttributeWait extends BaseWait {
             }
         }
     }
-}
 
+    @Override
+    public ScriptCondition toScriptCondition() {
+        if (!presence && getElements() != null && !getElements().isEmpty()) {
+            // stale elements could not be passed to script
+            return null;
+        }
+        return new ScriptCondition(ScriptCondition.ATTRIBUTE, getLocators(), getElements()).setNegate(!presence)
+                .setName(attribute).setValue(value).setExact(exactMatch);
+    }
+}
@@ -28,6 +28,7 @@ import com.coherentsolutions.yaf.web.wait.driver.BaseWait;
 import com.coherentsolutions.yaf.web.wait.driver.CustomExpectedConditions;
 import com.coherentsolutions.yaf.web.wait.driver.WaitConsts;
 import com.coherentsolutions.yaf.web.wait.driver.WaitFor;
+import com.coherentsolutions.yaf.web.wait.driver.script.ScriptCondition;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.openqa.selenium.By;
@@ -129,4 +130,14 @@ public class PresenceWait extends BaseWait {
             }
         }
     }
+
+    @Override
+    public ScriptCondition toScriptCondition() {
+        if (!presence && getElements() != null && !getElements().isEmpty()) {
+            // stale elements could not be passed to script
+            return null;
+        }
+        return new ScriptCondition(ScriptCondition.PRESENCE, getLocators(), getElements()).setNegate(!presence)
+                .setAny(anyElementMatch && (getElements() == null || getElements().isEmpty()));
+    }
 }
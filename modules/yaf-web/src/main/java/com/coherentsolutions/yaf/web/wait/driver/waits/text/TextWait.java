@@ -28,6 +28,7 @@ import com.coherentsolutions.yaf.web.wait.driver.BaseWait;
 import com.coherentsolutions.yaf.web.wait.driver.CustomExpectedConditions;
 import com.coherentsolutions.yaf.web.wait.driver.WaitConsts;
 import com.coherentsolutions.yaf.web.wait.driver.WaitFor;
+import com.coherentsolutions.yaf.web.wait.driver.script.ScriptCondition;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.openqa.selenium.By;
@@ -117,4 +118,10 @@ public class TextWait extends BaseWait {
             }
         }
     }
+
+    @Override
+    public ScriptCondition toScriptCondition() {
+        return new ScriptCondition(ScriptCondition.TEXT, getLocators(), getElements()).setValue(text)
+                .setExact(shouldBeEqual);
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 - 2025 Coherent Solutions Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.coherentsolutions.yaf.web.wait.driver;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The type Backoff sleeper test.
+ */
+public class BackoffSleeperTest {
+
+    private static final Duration INTERVAL = Duration.ofMillis(500);
+
+    /**
+     * Pause grows up to the interval.
+     */
+    @Test
+    public void pauseGrowsUpToInterval() {
+        BackoffSleeper sleeper = new BackoffSleeper(20, 2);
+        Assertions.assertEquals(List.of(20L, 40L, 80L, 160L, 320L, 500L, 500L), pauses(sleeper, 7));
+    }
+
+    /**
+     * Fractional factor is rounded up.
+     */
+    @Test
+    public void fractionalFactorIsRoundedUp() {
+        BackoffSleeper sleeper = new BackoffSleeper(10, 1.5);
+        Assertions.assertEquals(List.of(10L, 15L, 23L, 35L), pauses(sleeper, 4));
+    }
+
+    /**
+     * Invalid arguments are clamped.
+     */
+    @Test
+    public void invalidArgumentsAreClamped() {
+        BackoffSleeper sleeper = new BackoffSleeper(0, 0.5);
+        Assertions.assertEquals(List.of(1L, 1L, 1L), pauses(sleeper, 3));
+    }
+
+    /**
+     * First pause is capped by short interval.
+     */
+    @Test
+    public void firstPauseIsCappedByInterval() {
+        BackoffSleeper sleeper = new BackoffSleeper(100, 2);
+        Assertions.assertEquals(5, sleeper.nextPause(Duration.ofMillis(5)));
+    }
+
+    /**
+     * Sleep pauses the thread.
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    @Test
+    public void sleepPausesThread() throws InterruptedException {
+        BackoffSleeper sleeper = new BackoffSleeper(30, 2);
+        long start = System.nanoTime();
+        sleeper.sleep(INTERVAL);
+        Assertions.assertTrue(System.nanoTime() - start >= Duration.ofMillis(30).toNanos());
+    }
+
+    private List<Long> pauses(BackoffSleeper sleeper, int count) {
+        List<Long> pauses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            pauses.add(sleeper.nextPause(INTERVAL));
+        }
+        return pauses;
+    }
+}
@@ -25,6 +25,7 @@
 package com.coherentsolutions.yaf.zephyr.scale;
 
 import com.coherentsolutions.yaf.core.consts.Consts;
+import com.coherentsolutions.yaf.core.events.deferred.YafDeferredListener;
 import com.coherentsolutions.yaf.core.events.global.ExecutionStartEvent;
 import com.coherentsolutions.yaf.core.events.test.TestFinishEvent;
 import com.coherentsolutions.yaf.core.test.YafTest;
@@ -47,6 +48,7 @@ import java.util.Arrays;
  * </p>
  */
 @Service
+@YafDeferredListener
 @Slf4j
 @ConditionalOnProperty(name = Consts.FRAMEWORK_NAME + ".zephyr.scale.enabled", havingValue = "true")
 public class ZephyrScaleService {